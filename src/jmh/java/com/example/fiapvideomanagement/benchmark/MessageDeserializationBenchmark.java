@@ -0,0 +1,81 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import com.example.fiapvideomanagement.domain.model.VideoMessage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code objectMapper.readValue(record.value(), ...)} as the listeners call it for every record,
+ * with a mapper configured like the one Boot injects, against a pre-built {@link ObjectReader}
+ * fed the raw record bytes (skipping the String decode a {@code StringDeserializer} does).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageDeserializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ObjectReader videoReader = objectMapper.readerFor(VideoMessage.class);
+    private final ObjectReader statusReader = objectMapper.readerFor(VideoStatusMessage.class);
+
+    private String videoPayload;
+    private String statusPayload;
+    private byte[] videoBytes;
+    private byte[] statusBytes;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        videoPayload = objectMapper.writeValueAsString(VideoMessage.builder()
+                .videoId(UUID.randomUUID().toString())
+                .s3Key("uploads/42/aula-01-arquitetura-hexagonal.mp4")
+                .originalName("aula-01-arquitetura-hexagonal.mp4")
+                .generatedName("5f0c1a9e-aula-01.mp4")
+                .customerId(42L)
+                .customerEmail("customer.with.a.long.address@example.com")
+                .build());
+        statusPayload = objectMapper.writeValueAsString(VideoStatusMessage.builder()
+                .videoId(UUID.randomUUID())
+                .videoName("aula-01-arquitetura-hexagonal.mp4")
+                .customerEmail("customer.with.a.long.address@example.com")
+                .videoStatus("PROCESSED")
+                .build());
+        videoBytes = videoPayload.getBytes(StandardCharsets.UTF_8);
+        statusBytes = statusPayload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public VideoMessage readVideoMessage() throws JsonProcessingException {
+        return objectMapper.readValue(videoPayload, VideoMessage.class);
+    }
+
+    @Benchmark
+    public VideoStatusMessage readVideoStatusMessage() throws JsonProcessingException {
+        return objectMapper.readValue(statusPayload, VideoStatusMessage.class);
+    }
+
+    @Benchmark
+    public VideoMessage readVideoMessageBytes() throws IOException {
+        return videoReader.readValue(videoBytes);
+    }
+
+    @Benchmark
+    public VideoStatusMessage readVideoStatusMessageBytes() throws IOException {
+        return statusReader.readValue(statusBytes);
+    }
+}
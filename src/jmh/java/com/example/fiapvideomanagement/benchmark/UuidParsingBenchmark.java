@@ -0,0 +1,41 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Video id round trips: parsed from every video-data message and REST path, and printed
+ * back for every Redis key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidParsingBenchmark {
+
+    private String text;
+    private UUID uuid;
+
+    @Setup
+    public void setUp() {
+        uuid = UUID.randomUUID();
+        text = uuid.toString();
+    }
+
+    @Benchmark
+    public UUID fromString() {
+        return UUID.fromString(text);
+    }
+
+    @Benchmark
+    public String toText() {
+        return uuid.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import com.example.fiapvideomanagement.adapters.outbound.jpa.VideoEntity;
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoMessage;
+import com.example.fiapvideomanagement.mapper.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Mapper} conversions, and the entity round trip {@code VideoRepositoryAdapter.save}
+ * runs around each write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoMappingBenchmark {
+
+    private VideoMessage message;
+    private VideoEntity entity;
+    private Video video;
+
+    @Setup
+    public void setUp() {
+        message = VideoMessage.builder()
+                .videoId(UUID.randomUUID().toString())
+                .s3Key("uploads/42/aula-01-arquitetura-hexagonal.mp4")
+                .originalName("aula-01-arquitetura-hexagonal.mp4")
+                .customerId(42L)
+                .customerEmail("customer.with.a.long.address@example.com")
+                .build();
+        entity = VideoEntity.builder()
+                .id(UUID.randomUUID())
+                .name("aula-01-arquitetura-hexagonal.mp4")
+                .url("uploads/42/aula-01-arquitetura-hexagonal.mp4")
+                .customerId(42L)
+                .customerEmail("customer.with.a.long.address@example.com")
+                .status("PROCESSED")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        video = Mapper.toVideo(entity);
+    }
+
+    @Benchmark
+    public Video messageToVideo() {
+        return Mapper.toVideo(message);
+    }
+
+    @Benchmark
+    public Video entityToVideo() {
+        return Mapper.toVideo(entity);
+    }
+
+    @Benchmark
+    public VideoEntity videoToEntity() {
+        return Mapper.toVideoEntity(video);
+    }
+
+    @Benchmark
+    public Video adapterSaveRoundTrip() {
+        return Mapper.toVideo(Mapper.toVideoEntity(video));
+    }
+}
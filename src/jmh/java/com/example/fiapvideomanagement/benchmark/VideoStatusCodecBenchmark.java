@@ -0,0 +1,74 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import com.example.fiapvideomanagement.adapters.outbound.redis.VideoStatusMessageRedisSerializer;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pending status codec: the binary value serializer against the JSON serializer Redis used before,
+ * plus the key serializer every pending-status command goes through.
+ * Encoded sizes are printed once per trial; run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoStatusCodecBenchmark {
+
+    private final RedisSerializer<VideoStatusMessage> binary = new VideoStatusMessageRedisSerializer();
+    private final RedisSerializer<VideoStatusMessage> json = new Jackson2JsonRedisSerializer<>(VideoStatusMessage.class);
+    private final RedisSerializer<String> key = new StringRedisSerializer();
+
+    private VideoStatusMessage message;
+    private byte[] binaryEncoded;
+    private byte[] jsonEncoded;
+
+    @Setup
+    public void setUp() {
+        message = VideoStatusMessage.builder()
+                .videoId(UUID.randomUUID())
+                .videoName("aula-01-arquitetura-hexagonal.mp4")
+                .customerEmail("customer.with.a.long.address@example.com")
+                .videoStatus("PROCESSED")
+                .build();
+        binaryEncoded = binary.serialize(message);
+        jsonEncoded = json.serialize(message);
+        System.out.printf("%nencoded size: binary=%d bytes, json=%d bytes%n", binaryEncoded.length, jsonEncoded.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binary.serialize(message);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return json.serialize(message);
+    }
+
+    @Benchmark
+    public VideoStatusMessage decodeBinary() {
+        return binary.deserialize(binaryEncoded);
+    }
+
+    @Benchmark
+    public VideoStatusMessage decodeJson() {
+        return json.deserialize(jsonEncoded);
+    }
+
+    @Benchmark
+    public byte[] encodeKey() {
+        return key.serialize("pending_status:" + message.getVideoId());
+    }
+}
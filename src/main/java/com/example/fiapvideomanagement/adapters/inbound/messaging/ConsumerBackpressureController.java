@@ -0,0 +1,151 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pauses the Kafka listener containers while the connection pool is saturated, so REST
+ * requests get the connections and consumption catches up afterwards instead of timing out.
+ * Saturated means both that threads are waiting for a connection and that connections are
+ * held long on average: waiting alone is mostly the listeners' own lanes queueing for the
+ * pool, and a long mean alone can be one NDJSON export holding its connection for the whole
+ * stream while the rest of the pool sits idle. Pauses above the high watermark and resumes
+ * only after a few consecutive checks with the mean under the low one.
+ */
+@Component
+@ConditionalOnProperty(name = "video-management.backpressure.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ConsumerBackpressureController {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final MeterRegistry meterRegistry;
+    private final double pauseLatencyMs;
+    private final double resumeLatencyMs;
+    private final int resumeAfterChecks;
+    private final Map<String, AtomicInteger> pausedByTopic = new ConcurrentHashMap<>();
+    private volatile boolean paused;
+    private long pausedAtNanos;
+    private int healthyChecks;
+    private long lastUsageCount;
+    private double lastUsageTotalMs;
+
+    public ConsumerBackpressureController(KafkaListenerEndpointRegistry registry,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${video-management.backpressure.pause-latency:500ms}") Duration pauseLatency,
+                                          @Value("${video-management.backpressure.resume-latency:100ms}") Duration resumeLatency,
+                                          @Value("${video-management.backpressure.resume-after-checks:3}") int resumeAfterChecks) {
+        this.registry = registry;
+        this.meterRegistry = meterRegistry;
+        this.pauseLatencyMs = pauseLatency.toMillis();
+        this.resumeLatencyMs = resumeLatency.toMillis();
+        this.resumeAfterChecks = resumeAfterChecks;
+    }
+
+    @Scheduled(fixedDelayString = "${video-management.backpressure.check-interval:500ms}")
+    public void check() {
+        try {
+            evaluate(pendingThreads(), connectionUsageMs());
+        } catch (Exception e) {
+            log.warn("Backpressure check failed: {}", e.getMessage());
+        }
+    }
+
+    synchronized void evaluate(int pendingThreads, double usageMs) {
+        if (!paused) {
+            if (pendingThreads > 0 && usageMs >= pauseLatencyMs) {
+                log.warn("DB pool saturated ({} threads waiting, {} ms per connection); pausing consumers",
+                        pendingThreads, Math.round(usageMs));
+                pauseAll();
+            }
+            return;
+        }
+        healthyChecks = usageMs <= resumeLatencyMs ? healthyChecks + 1 : 0;
+        if (healthyChecks >= resumeAfterChecks) {
+            log.info("DB pool recovered; resuming consumers");
+            resumeAll();
+        }
+    }
+
+    boolean isPaused() {
+        return paused;
+    }
+
+    private void pauseAll() {
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            if (!container.isRunning()) continue;
+            container.pause();
+            topicsOf(container).forEach(topic -> pausedGauge(topic).set(1));
+        }
+        paused = true;
+        healthyChecks = 0;
+        pausedAtNanos = System.nanoTime();
+    }
+
+    private void resumeAll() {
+        long pausedNanos = System.nanoTime() - pausedAtNanos;
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            if (!container.isPauseRequested()) continue;
+            container.resume();
+            topicsOf(container).forEach(topic -> {
+                pausedGauge(topic).set(0);
+                Timer.builder("video.consumer.paused.time")
+                        .description("Time listener containers spent paused by DB backpressure")
+                        .tag("topic", topic)
+                        .register(meterRegistry)
+                        .record(pausedNanos, TimeUnit.NANOSECONDS);
+            });
+        }
+        paused = false;
+        healthyChecks = 0;
+    }
+
+    private AtomicInteger pausedGauge(String topic) {
+        return pausedByTopic.computeIfAbsent(topic, t -> {
+            AtomicInteger state = new AtomicInteger();
+            Gauge.builder("video.consumer.paused", state, AtomicInteger::get)
+                    .description("1 while the topic's listeners are paused by DB backpressure")
+                    .tag("topic", t)
+                    .register(meterRegistry);
+            return state;
+        });
+    }
+
+    private static List<String> topicsOf(MessageListenerContainer container) {
+        String[] topics = container.getContainerProperties().getTopics();
+        return topics == null ? List.of() : Arrays.asList(topics);
+    }
+
+    private int pendingThreads() {
+        Gauge pending = meterRegistry.find("hikaricp.connections.pending").gauge();
+        return pending == null ? 0 : (int) pending.value();
+    }
+
+    /** Mean time a connection was held since the previous check, from Hikari's usage timer. */
+    private double connectionUsageMs() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").timer();
+        if (usage == null) return 0;
+        long count = usage.count();
+        double totalMs = usage.totalTime(TimeUnit.MILLISECONDS);
+        long calls = count - lastUsageCount;
+        double mean = calls > 0 ? (totalMs - lastUsageTotalMs) / calls : 0;
+        lastUsageCount = count;
+        lastUsageTotalMs = totalMs;
+        return mean;
+    }
+}
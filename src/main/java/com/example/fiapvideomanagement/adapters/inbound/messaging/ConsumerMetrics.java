@@ -0,0 +1,184 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumer-side metrics for every listener mode. Registered as both record and batch
+ * interceptor, which Boot applies to each container factory built through its configurer,
+ * so the listeners themselves stay free of instrumentation. Lag is read with
+ * {@link Consumer#currentLag} on the container thread after each delivery and on every
+ * container idle event, so idle and paused partitions keep reporting; a partition that is
+ * no longer assigned to the consumer that reported it has its gauge removed. Retry topics
+ * are topics of their own, so records and failures per {@code topic} tag give each retry tier.
+ */
+@Component
+public class ConsumerMetrics implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter parkedStatuses;
+    private final Map<String, TopicMeters> topics = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, PartitionLag> lags = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    public ConsumerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.parkedStatuses = Counter.builder("video.status.parked")
+                .description("Statuses parked because their video did not exist yet")
+                .register(meterRegistry);
+    }
+
+    public void recordParked(int count) {
+        if (count > 0) parkedStatuses.increment(count);
+    }
+
+    @Override
+    public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        startedAt.set(System.nanoTime());
+        return record;
+    }
+
+    @Override
+    public void failure(ConsumerRecord<Object, Object> record, Exception exception, Consumer<Object, Object> consumer) {
+        meters(record.topic()).failures.increment();
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+        completed(List.of(record), consumer);
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        startedAt.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+        completed(records, consumer);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+        records.partitions().forEach(partition -> meters(partition.topic()).failures.increment(records.records(partition).size()));
+        completed(records, consumer);
+    }
+
+    /** Published on the container thread when a poll returns nothing, paused or not. */
+    @EventListener
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (event.getConsumer() != null) updateLag(event.getConsumer());
+    }
+
+    void completed(Iterable<ConsumerRecord<Object, Object>> records, Consumer<?, ?> consumer) {
+        Long started = startedAt.get();
+        startedAt.remove();
+        long elapsedNanos = started == null ? -1 : System.nanoTime() - started;
+        long now = System.currentTimeMillis();
+
+        Set<String> seen = new LinkedHashSet<>();
+        for (ConsumerRecord<Object, Object> record : records) {
+            TopicMeters meters = meters(record.topic());
+            meters.records.increment();
+            if (record.timestamp() > 0) meters.endToEnd.record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            seen.add(record.topic());
+        }
+        if (elapsedNanos >= 0) seen.forEach(topic -> meters(topic).processing.record(elapsedNanos, TimeUnit.NANOSECONDS));
+        updateLag(consumer);
+    }
+
+    private void updateLag(Consumer<?, ?> consumer) {
+        Set<TopicPartition> assignment = consumer.assignment();
+        for (TopicPartition partition : assignment) {
+            OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent()) lag(partition).update(lag.getAsLong(), consumer);
+        }
+        for (TopicPartition partition : lags.keySet()) {
+            if (!assignment.contains(partition)) removeLag(partition, consumer);
+        }
+    }
+
+    /**
+     * Only the consumer that last reported a partition drops it, so a revocation seen late by
+     * one consumer does not remove a gauge another consumer of this instance has taken over.
+     */
+    private void removeLag(TopicPartition partition, Consumer<?, ?> consumer) {
+        lags.computeIfPresent(partition, (tp, lag) -> {
+            if (lag.owner != consumer) return lag;
+            meterRegistry.remove(lag.gauge);
+            return null;
+        });
+    }
+
+    private TopicMeters meters(String topic) {
+        return topics.computeIfAbsent(topic, t -> new TopicMeters(
+                Counter.builder("video.consumer.records")
+                        .description("Records delivered to the listeners")
+                        .tag("topic", t)
+                        .register(meterRegistry),
+                Timer.builder("video.consumer.e2e.latency")
+                        .description("Time from the record timestamp until its delivery was processed")
+                        .tag("topic", t)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("video.consumer.processing")
+                        .description("Time the listener spent on one delivery (a record or a whole poll)")
+                        .tag("topic", t)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("video.consumer.failures")
+                        .description("Records whose delivery failed (sent to the next retry tier or the DLT)")
+                        .tag("topic", t)
+                        .register(meterRegistry)));
+    }
+
+    private PartitionLag lag(TopicPartition partition) {
+        return lags.computeIfAbsent(partition, tp -> {
+            PartitionLag lag = new PartitionLag();
+            lag.gauge = Gauge.builder("video.consumer.lag", lag, PartitionLag::value)
+                    .description("Records behind the log end, as last seen by this instance")
+                    .tag("topic", tp.topic())
+                    .tag("partition", Integer.toString(tp.partition()))
+                    .register(meterRegistry);
+            return lag;
+        });
+    }
+
+    private record TopicMeters(Counter records, Timer endToEnd, Timer processing, Counter failures) {
+    }
+
+    private static final class PartitionLag {
+        private Gauge gauge;
+        private volatile long lag;
+        private volatile Consumer<?, ?> owner;
+
+        private void update(long lag, Consumer<?, ?> owner) {
+            this.lag = lag;
+            this.owner = owner;
+        }
+
+        private double value() {
+            return lag;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import java.io.IOException;
+
+/**
+ * A payload that parsed but can never be processed, such as a tombstone or a message without
+ * a usable video id. Like a parse failure it goes straight to the dead-letter topic.
+ */
+public class InvalidMessageException extends IOException {
+
+    public InvalidMessageException(String message) {
+        super(message);
+    }
+
+    public InvalidMessageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
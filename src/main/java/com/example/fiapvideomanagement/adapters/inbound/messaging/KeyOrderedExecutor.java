@@ -0,0 +1,43 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs tasks on a fixed set of serial lanes picked by key, so work for the same video
+ * keeps its arrival order while different videos proceed in parallel.
+ */
+@Component
+public class KeyOrderedExecutor {
+
+    private final ExecutorService[] lanes;
+
+    public KeyOrderedExecutor(@Value("${video-management.consumer.parallel.lanes:32}") int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("video-management.consumer.parallel.lanes must be positive");
+        }
+        ThreadFactory threadFactory = Thread.ofVirtual().name("video-lane-", 0).factory();
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+    }
+
+    public CompletableFuture<Void> submit(UUID key, Runnable task) {
+        return CompletableFuture.runAsync(task, lanes[Math.floorMod(key.hashCode(), lanes.length)]);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
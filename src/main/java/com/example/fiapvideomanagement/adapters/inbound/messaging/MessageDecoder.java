@@ -0,0 +1,54 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.VideoMessage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Parses the listeners' payloads straight from the record bytes. The readers are built once,
+ * so there is no String copy of the payload and no type lookup per record. Tombstones and
+ * messages without a valid video id are rejected with {@link InvalidMessageException}, which
+ * the error handlers treat like a parse failure instead of retrying it.
+ */
+@Component
+public class MessageDecoder {
+
+    private final ObjectReader videoMessageReader;
+    private final ObjectReader videoStatusMessageReader;
+
+    public MessageDecoder(ObjectMapper objectMapper) {
+        this.videoMessageReader = objectMapper.readerFor(VideoMessage.class);
+        this.videoStatusMessageReader = objectMapper.readerFor(VideoStatusMessage.class);
+    }
+
+    public VideoMessage readVideoMessage(byte[] payload) throws IOException {
+        VideoMessage message = videoMessageReader.readValue(requirePayload(payload));
+        if (message == null || message.getVideoId() == null) {
+            throw new InvalidMessageException("Video message without a videoId");
+        }
+        try {
+            UUID.fromString(message.getVideoId());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidMessageException("Video message with an invalid videoId", e);
+        }
+        return message;
+    }
+
+    public VideoStatusMessage readVideoStatusMessage(byte[] payload) throws IOException {
+        VideoStatusMessage message = videoStatusMessageReader.readValue(requirePayload(payload));
+        if (message == null || message.getVideoId() == null) {
+            throw new InvalidMessageException("Status message without a videoId");
+        }
+        return message;
+    }
+
+    private static byte[] requirePayload(byte[] payload) throws InvalidMessageException {
+        if (payload == null || payload.length == 0) throw new InvalidMessageException("Empty payload (tombstone)");
+        return payload;
+    }
+}
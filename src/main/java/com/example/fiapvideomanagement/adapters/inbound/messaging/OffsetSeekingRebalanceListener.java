@@ -0,0 +1,56 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resumes assigned partitions from the offsets stored with the video rows when they are ahead
+ * of Kafka's committed ones, so a batch whose rows committed but whose Kafka ack did not is not
+ * applied twice. The stored offset is only a floor: rows left by an earlier run in another mode,
+ * or batches recovered through the dead-letter topic, advance only Kafka's offset, and seeking
+ * back to them would replay old statuses over newer ones.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OffsetSeekingRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final ConsumerOffsetStorePort offsetStore;
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<String> topics = partitions.stream().map(TopicPartition::topic).collect(Collectors.toSet());
+        for (String topic : topics) {
+            try {
+                Map<Integer, ConsumedOffset> stored = offsetStore.findOffsets(topic).stream()
+                        .collect(Collectors.toMap(ConsumedOffset::getPartition, Function.identity()));
+                Set<TopicPartition> candidates = partitions.stream()
+                        .filter(partition -> partition.topic().equals(topic) && stored.containsKey(partition.partition()))
+                        .collect(Collectors.toSet());
+                if (candidates.isEmpty()) continue;
+                Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(candidates);
+                for (TopicPartition partition : candidates) {
+                    long next = stored.get(partition.partition()).getNextOffset();
+                    OffsetAndMetadata kafkaOffset = committed.get(partition);
+                    if (kafkaOffset == null || next > kafkaOffset.offset()) consumer.seek(partition, next);
+                }
+            } catch (Exception e) {
+                // Without the stored offsets the consumer resumes from Kafka's, which at worst redelivers a batch.
+                log.warn("Could not load stored offsets for {}, resuming from committed offsets: {}", topic, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk form of the per-record status path: one batched UPDATE, the misses parked in one
+ * pipelined call and re-checked once, and whatever is still missing queued for reconciliation.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusBatchWriter {
+
+    private final VideoUseCase videoUseCase;
+    private final PendingStatusStorePort pendingStatusStore;
+    private final ReconciliationQueuePort reconciliationQueue;
+    private final ConsumerMetrics consumerMetrics;
+
+    public void write(Map<UUID, VideoStatusMessage> latest) {
+        if (latest.isEmpty()) return;
+        Map<UUID, String> statuses = new LinkedHashMap<>();
+        latest.forEach((videoId, message) -> statuses.put(videoId, message.getVideoStatus()));
+        Set<UUID> applied = videoUseCase.applyStatuses(statuses);
+        log.info("Status batch written: {} videos, {} applied", statuses.size(), applied.size());
+        if (applied.size() == statuses.size()) return;
+
+        Map<UUID, VideoStatusMessage> missed = new LinkedHashMap<>();
+        latest.forEach((videoId, message) -> {
+            if (!applied.contains(videoId)) missed.put(videoId, message);
+        });
+        Map<String, VideoStatusMessage> parked = new LinkedHashMap<>();
+        missed.forEach((videoId, message) -> parked.put(videoId.toString(), message));
+        pendingStatusStore.savePendingStatuses(parked);
+        consumerMetrics.recordParked(parked.size());
+        recheckParked(missed);
+    }
+
+    /**
+     * Second half of the path, for statuses already parked: applies those whose video was
+     * inserted meanwhile and queues the rest for reconciliation.
+     */
+    public void recheckParked(Map<UUID, VideoStatusMessage> parked) {
+        if (parked.isEmpty()) return;
+        Map<UUID, String> recheck = new LinkedHashMap<>();
+        parked.forEach((videoId, message) -> recheck.put(videoId, message.getVideoStatus()));
+        Set<UUID> appliedOnRecheck = videoUseCase.applyStatuses(recheck);
+        if (!appliedOnRecheck.isEmpty()) {
+            pendingStatusStore.getAndRemovePendingStatuses(appliedOnRecheck.stream().map(UUID::toString).toList());
+        }
+        Instant now = Instant.now();
+        recheck.keySet().stream()
+                .filter(videoId -> !appliedOnRecheck.contains(videoId))
+                .forEach(videoId -> scheduleReconciliation(videoId, now));
+    }
+
+    private void scheduleReconciliation(UUID videoId, Instant parkedAt) {
+        try {
+            reconciliationQueue.enqueue(new PendingReconciliation(videoId, parkedAt));
+        } catch (Exception e) {
+            log.warn("Could not schedule reconciliation for video {}: {}", videoId, e.getMessage());
+        }
+    }
+}
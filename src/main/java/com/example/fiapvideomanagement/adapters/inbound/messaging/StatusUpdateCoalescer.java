@@ -0,0 +1,119 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collapses bursts of status messages per video: within one window only the last status of
+ * each video is written, all of them in one {@link StatusBatchWriter} call. The future
+ * returned by {@link #submit} completes once that write is done, so callers can hold their
+ * offset commit until then. After {@link #shutdown} it fails straight away instead of waiting
+ * for a flush that will never come.
+ */
+@Component
+@Slf4j
+public class StatusUpdateCoalescer {
+
+    private final StatusBatchWriter statusBatchWriter;
+    private final long windowMs;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<UUID, Pending> window = new LinkedHashMap<>();
+    private ScheduledExecutorService flusher;
+    private boolean closed;
+
+    public StatusUpdateCoalescer(StatusBatchWriter statusBatchWriter,
+                                 @Value("${video-management.consumer.video-status.coalesce-window:20ms}") Duration window) {
+        this.statusBatchWriter = statusBatchWriter;
+        this.windowMs = Math.max(1, window.toMillis());
+    }
+
+    public CompletableFuture<Void> submit(VideoStatusMessage message) {
+        lock.lock();
+        try {
+            if (closed) return CompletableFuture.failedFuture(new IllegalStateException("Status coalescer is shut down"));
+            startFlusherIfNeeded();
+            Pending pending = window.get(message.getVideoId());
+            if (pending == null) {
+                pending = new Pending(new CompletableFuture<>());
+                window.put(message.getVideoId(), pending);
+            }
+            pending.latest = message;
+            return pending.flushed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void flush() {
+        Map<UUID, Pending> batch;
+        lock.lock();
+        try {
+            if (window.isEmpty()) return;
+            batch = window;
+            window = new LinkedHashMap<>();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            Map<UUID, VideoStatusMessage> latest = new LinkedHashMap<>();
+            batch.forEach((videoId, pending) -> latest.put(videoId, pending.latest));
+            statusBatchWriter.write(latest);
+            batch.values().forEach(pending -> pending.flushed.complete(null));
+        } catch (Exception e) {
+            log.error("Error flushing {} coalesced statuses: {}", batch.size(), e.getMessage(), e);
+            batch.values().forEach(pending -> pending.flushed.completeExceptionally(e));
+        }
+    }
+
+    /** Started on first use so the record and parallel modes do not keep an idle ticker around. */
+    private void startFlusherIfNeeded() {
+        if (flusher != null) return;
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("status-coalescer").daemon().factory());
+        flusher.scheduleAtFixedRate(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** Lets a scheduled flush that is already running finish, then writes what is left in the window. */
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService scheduled;
+        lock.lock();
+        try {
+            closed = true;
+            scheduled = flusher;
+        } finally {
+            lock.unlock();
+        }
+        if (scheduled != null) {
+            scheduled.shutdown();
+            try {
+                scheduled.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private static final class Pending {
+        private final CompletableFuture<Void> flushed;
+        private VideoStatusMessage latest;
+
+        private Pending(CompletableFuture<Void> flushed) {
+            this.flushed = flushed;
+        }
+    }
+}
@@ -1,88 +1,417 @@
 package com.example.fiapvideomanagement.adapters.inbound.messaging;
 
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.Video;
 import com.example.fiapvideomanagement.domain.model.VideoMessage;
 import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
 import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
 import com.example.fiapvideomanagement.mapper.Mapper;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.fiapvideomanagement.service.MessageStageEvent;
+import com.example.fiapvideomanagement.service.VideoIdBloomFilter;
+import com.fasterxml.jackson.core.JacksonException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class VideoManagementConsumer {
 
-    private final ObjectMapper objectMapper;
+    private final MessageDecoder messageDecoder;
     private final VideoUseCase videoUseCase;
     private final PendingStatusStorePort pendingStatusStorePort;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final VideoIdBloomFilter videoIdFilter;
+    private final ReconciliationQueuePort reconciliationQueue;
+    private final StatusUpdateCoalescer statusUpdateCoalescer;
+    private final WriteBehindBuffer writeBehindBuffer;
+    private final StatusBatchWriter statusBatchWriter;
+    private final ConsumerMetrics consumerMetrics;
+    private final DeadLetterPublishingRecoverer deadLetterRecoverer;
 
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    /**
+     * A failure is rethrown and the record moves through {@code video-data.retry-0..n} with
+     * growing delays, then to {@code video-data.DLT}, while the partition keeps flowing. The
+     * price is ordering: a retried record can land after a later one for the same video.
+     * Payloads that do not parse, tombstones and bad video ids skip the retries.
+     */
+    @RetryableTopic(
+            attempts = "${video-management.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${video-management.retry.initial-delay:1000}",
+                    multiplierExpression = "${video-management.retry.multiplier:2.0}",
+                    maxDelayExpression = "${video-management.retry.max-delay:30000}"),
+            retryTopicSuffix = ".retry",
+            dltTopicSuffix = ".DLT",
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            exclude = {JacksonException.class, InvalidMessageException.class},
+            traversingCauses = "true",
+            autoCreateTopics = "${video-management.retry.auto-create-topics:true}"
+    )
+    @KafkaListener(
+            topics = "video-data",
+            groupId = "video-management-group",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-data.mode:record}' == 'record'}"
+    )
+    public void listenVideoMessage(ConsumerRecord<String, byte[]> record) throws IOException {
+        VideoMessage message = readVideoMessage(record);
+        try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+            handleVideoMessage(message);
+        }
+    }
 
     @KafkaListener(
             topics = "video-data",
             groupId = "video-management-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-data.mode:record}' == 'batch'}"
     )
-    public void listenVideoMessage(ConsumerRecord<String, String> record) {
-        try {
-            VideoMessage message = objectMapper.readValue(record.value(), VideoMessage.class);
-            UUID videoId = UUID.fromString(message.getVideoId());
-            log.info("Video received: {}", videoId);
-
-            if (videoUseCase.existsById(videoId)) {
-                videoUseCase.updateVideoUrl(videoId, message.getS3Key());
-            } else {
-                videoUseCase.createVideo(Mapper.toVideo(message));
+    public void listenVideoMessageBatch(List<ConsumerRecord<String, byte[]>> records) {
+        // Collapse the poll per video: the first message creates the row, later ones only move the url.
+        Map<UUID, Video> videos = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                Video video = Mapper.toVideo(readVideoMessage(record));
+                videos.merge(video.getId(), video, (first, later) -> {
+                    first.setUrl(later.getUrl());
+                    return first;
+                });
+            } catch (Exception e) {
+                deadLetter(record, e);
             }
+        }
+        if (videos.isEmpty()) return;
 
-            scheduler.schedule(() -> {
-                try {
-                    pendingStatusStorePort.getAndRemovePendingStatus(videoId.toString())
-                            .ifPresent(status -> {
-                                log.info("Applying Pending Status to Video {}", videoId);
-                                videoUseCase.updateVideoStatus(videoId, status.getVideoStatus());
-                            });
-                } catch (Exception e) {
-                    log.error("Error applying scheduled pending status to video {}: {}", videoId, e.getMessage(), e);
-                }
-            }, 2, TimeUnit.SECONDS);
+        // A failed upsert is rethrown so the poll is not acked: the error handler retries it, then dead-letters it.
+        log.info("Video batch received: {} records, {} videos", records.size(), videos.size());
+        videoUseCase.upsertVideos(new ArrayList<>(videos.values()));
+    }
 
-        } catch (Exception e) {
-            log.error("Error processing Kafka message (video): {}", e.getMessage(), e);
+    @KafkaListener(
+            topics = "video-data",
+            groupId = "video-management-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-data.mode:record}' == 'parallel'}"
+    )
+    public void listenVideoMessageParallel(List<ConsumerRecord<String, byte[]>> records) {
+        List<ConsumerRecord<String, byte[]>> submitted = new ArrayList<>(records.size());
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                VideoMessage message = readVideoMessage(record);
+                UUID videoId = UUID.fromString(message.getVideoId());
+                inFlight.add(keyOrderedExecutor.submit(videoId, () -> {
+                    try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+                        handleVideoMessage(message);
+                    }
+                }));
+                submitted.add(record);
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        awaitLanes(submitted, inFlight);
+    }
+
+    @KafkaListener(
+            topics = "video-data",
+            groupId = "video-management-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-data.mode:record}' == 'write-behind'}"
+    )
+    public void listenVideoMessageWriteBehind(List<ConsumerRecord<String, byte[]>> records) {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                inFlight.add(writeBehindBuffer.submitUpsert(
+                        Mapper.toVideo(readVideoMessage(record))));
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        // A failed group commit is rethrown: the error handler retries the poll with backoff and
+        // dead-letters its records once the attempts run out.
+        awaitAll(inFlight);
+    }
+
+    @KafkaListener(
+            topics = "video-data",
+            groupId = "video-management-group",
+            containerFactory = "transactionalKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-data.mode:record}' == 'transactional'}"
+    )
+    public void listenVideoMessageTransactional(List<ConsumerRecord<String, byte[]>> records) {
+        Map<UUID, Video> videos = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                Video video = Mapper.toVideo(readVideoMessage(record));
+                videos.merge(video.getId(), video, (first, later) -> {
+                    first.setUrl(later.getUrl());
+                    return first;
+                });
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        // Rows and offsets commit together; a failure is rethrown and the poll retried, then dead-lettered.
+        log.info("Video batch received: {} records, {} videos", records.size(), videos.size());
+        videoUseCase.upsertVideos(new ArrayList<>(videos.values()), nextOffsets(records));
+    }
+
+    /**
+     * No retry topics here: a status retried out of band could land after a newer one for the
+     * same video and overwrite it. Failures are retried in place by the container's error
+     * handler, which holds the partition until the record succeeds or is dead-lettered.
+     */
+    @KafkaListener(
+            topics = "video-status",
+            groupId = "video-management-group",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-status.mode:record}' == 'record'}"
+    )
+    public void listenVideoStatusMessage(ConsumerRecord<String, byte[]> record) throws IOException {
+        VideoStatusMessage message = readVideoStatusMessage(record);
+        try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+            handleVideoStatusMessage(message);
+        }
+    }
+
+    @KafkaListener(
+            topics = "video-status",
+            groupId = "video-management-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-status.mode:record}' == 'parallel'}"
+    )
+    public void listenVideoStatusMessageParallel(List<ConsumerRecord<String, byte[]>> records) {
+        List<ConsumerRecord<String, byte[]>> submitted = new ArrayList<>(records.size());
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                VideoStatusMessage message = readVideoStatusMessage(record);
+                inFlight.add(keyOrderedExecutor.submit(message.getVideoId(), () -> {
+                    try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+                        handleVideoStatusMessage(message);
+                    }
+                }));
+                submitted.add(record);
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        awaitLanes(submitted, inFlight);
+    }
+
+    @KafkaListener(
+            topics = "video-status",
+            groupId = "video-management-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-status.mode:record}' == 'coalesce'}"
+    )
+    public void listenVideoStatusMessageCoalesced(List<ConsumerRecord<String, byte[]>> records) {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                inFlight.add(statusUpdateCoalescer.submit(readVideoStatusMessage(record)));
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
         }
+        // A failed flush is rethrown: the error handler retries the poll with backoff, and only
+        // after the last attempt are its records sent to the dead-letter topic.
+        awaitAll(inFlight);
     }
 
     @KafkaListener(
             topics = "video-status",
             groupId = "video-management-group",
-            containerFactory = "kafkaListenerContainerFactory"
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-status.mode:record}' == 'write-behind'}"
     )
-    public void listenVideoStatusMessage(ConsumerRecord<String, String> record) {
+    public void listenVideoStatusMessageWriteBehind(List<ConsumerRecord<String, byte[]>> records) {
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                inFlight.add(writeBehindBuffer.submitStatus(readVideoStatusMessage(record)));
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        awaitAll(inFlight);
+    }
+
+    @KafkaListener(
+            topics = "video-status",
+            groupId = "video-management-group",
+            containerFactory = "transactionalKafkaListenerContainerFactory",
+            autoStartup = "#{'${video-management.consumer.video-status.mode:record}' == 'transactional'}"
+    )
+    public void listenVideoStatusMessageTransactional(List<ConsumerRecord<String, byte[]>> records) {
+        Map<UUID, VideoStatusMessage> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                VideoStatusMessage message = readVideoStatusMessage(record);
+                latest.put(message.getVideoId(), message);
+            } catch (Exception e) {
+                deadLetter(record, e);
+            }
+        }
+        Set<UUID> parked = videoUseCase.applyOrParkStatuses(latest, nextOffsets(records));
+        if (parked.isEmpty()) return;
+        consumerMetrics.recordParked(parked.size());
+
+        // Outside the transaction: both steps are idempotent safety nets for videos that arrive late.
+        Map<UUID, VideoStatusMessage> parkedStatuses = new LinkedHashMap<>();
+        parked.forEach(videoId -> parkedStatuses.put(videoId, latest.get(videoId)));
         try {
-            VideoStatusMessage message = objectMapper.readValue(record.value(), VideoStatusMessage.class);
-            UUID videoId = message.getVideoId();
-            log.info("Received status for video: {}", videoId);
-
-            if (videoUseCase.existsById(videoId)) {
-                log.info("Video already exists, apply status immediately.");
-                videoUseCase.updateVideoStatus(videoId, message.getVideoStatus());
-            } else {
-                log.info("Video doesn't exist yet. Saving pending status in Redis.");
-                pendingStatusStorePort.savePendingStatus(videoId.toString(), message);
+            statusBatchWriter.recheckParked(parkedStatuses);
+        } catch (Exception e) {
+            log.warn("Could not re-check {} parked statuses: {}", parked.size(), e.getMessage());
+        }
+    }
+
+    private void handleVideoMessage(VideoMessage message) {
+        Video video = Mapper.toVideo(message);
+        log.info("Video received: {}", video.getId());
+
+        MessageStageEvent stage = MessageStageEvent.start("upsert");
+        videoUseCase.upsertFromMessage(video);
+        stage.finish(video.getId());
+    }
+
+    private void handleVideoStatusMessage(VideoStatusMessage message) {
+        UUID videoId = message.getVideoId();
+        log.info("Received status for video: {}", videoId);
+
+        // UPDATE first; only a single replica, whose filter has seen every insert, may skip it
+        // on a definite miss and send the status straight to the pending store.
+        if (!videoIdFilter.canSkipUpdate(videoId)) {
+            MessageStageEvent stage = MessageStageEvent.start("status-update");
+            boolean applied = videoUseCase.updateVideoStatusIfExists(videoId, message.getVideoStatus());
+            stage.finish(videoId);
+            if (applied) {
+                log.info("Video already exists, status applied immediately.");
+                return;
             }
+            videoIdFilter.recordFalsePositive();
+        }
+
+        log.info("Video doesn't exist yet. Saving pending status in Redis.");
+        MessageStageEvent park = MessageStageEvent.start("park");
+        pendingStatusStorePort.savePendingStatus(videoId.toString(), message);
+        park.finish(videoId);
+        consumerMetrics.recordParked(1);
+
+        // The video may have been inserted between the update and the park, after its
+        // upsert already looked for a pending status; apply it here so it is not stranded.
+        // This check also covers videos inserted by other instances, which the filter never sees.
+        MessageStageEvent recheck = MessageStageEvent.start("recheck");
+        boolean applied = videoUseCase.updateVideoStatusIfExists(videoId, message.getVideoStatus());
+        if (applied) pendingStatusStorePort.getAndRemovePendingStatus(videoId.toString());
+        recheck.finish(videoId);
+        if (!applied) scheduleReconciliation(videoId);
+    }
 
+    /** Best effort: the upsert merge is the primary path, the queue only catches what it misses. */
+    private void scheduleReconciliation(UUID videoId) {
+        MessageStageEvent stage = MessageStageEvent.start("schedule-reconciliation");
+        try {
+            reconciliationQueue.enqueue(new PendingReconciliation(videoId, Instant.now()));
         } catch (Exception e) {
-            log.error("Error processing Kafka message (status): {}", e.getMessage(), e);
+            log.warn("Could not schedule reconciliation for video {}: {}", videoId, e.getMessage());
+        } finally {
+            stage.finish(videoId);
+        }
+    }
+
+    /**
+     * Batch listeners cannot hand a single record to the error handler without failing the
+     * poll, so they publish unreadable ones to the dead-letter topic themselves and go on.
+     */
+    private void deadLetter(ConsumerRecord<String, byte[]> record, Exception e) {
+        log.error("Unreadable Kafka message ({}) at offset {}, sending it to the dead-letter topic: {}",
+                record.topic(), record.offset(), e.getMessage());
+        try {
+            deadLetterRecoverer.accept(record, e);
+        } catch (Exception publishFailure) {
+            log.error("Could not dead-letter message ({}) at offset {}: {}",
+                    record.topic(), record.offset(), publishFailure.getMessage(), publishFailure);
+        }
+    }
+
+    private VideoMessage readVideoMessage(ConsumerRecord<String, byte[]> record) throws IOException {
+        try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+            MessageStageEvent stage = MessageStageEvent.start("deserialize");
+            VideoMessage message = messageDecoder.readVideoMessage(record.value());
+            stage.finish(message.getVideoId());
+            return message;
+        }
+    }
+
+    private VideoStatusMessage readVideoStatusMessage(ConsumerRecord<String, byte[]> record) throws IOException {
+        try (var binding = MessageStageEvent.bind(record.topic(), record.partition(), record.offset())) {
+            MessageStageEvent stage = MessageStageEvent.start("deserialize");
+            VideoStatusMessage message = messageDecoder.readVideoStatusMessage(record.value());
+            stage.finish(message.getVideoId());
+            return message;
+        }
+    }
+
+    /** One past the highest offset seen per partition, malformed records included. */
+    static List<ConsumedOffset> nextOffsets(List<ConsumerRecord<String, byte[]>> records) {
+        Map<TopicPartition, Long> next = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            next.merge(new TopicPartition(record.topic(), record.partition()), record.offset() + 1, Math::max);
+        }
+        return next.entrySet().stream()
+                .map(entry -> new ConsumedOffset(entry.getKey().topic(), entry.getKey().partition(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * Blocks the container thread until every record of the poll is done, so the batch
+     * ack never commits past a record that is still in flight on another lane.
+     */
+    private static void awaitAll(List<CompletableFuture<Void>> inFlight) {
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Waits for every lane, then reports the earliest failed record of the poll (submission
+     * order is poll order). The error handler commits the records before it, retries it in
+     * place and dead-letters it once the attempts run out; the records after it are redelivered.
+     */
+    private static void awaitLanes(List<ConsumerRecord<String, byte[]>> submitted, List<CompletableFuture<Void>> inFlight) {
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        for (int i = 0; i < inFlight.size(); i++) {
+            CompletableFuture<Void> lane = inFlight.get(i);
+            if (lane.isCompletedExceptionally()) {
+                ConsumerRecord<String, byte[]> record = submitted.get(i);
+                throw new BatchListenerFailedException("Error processing Kafka message (" + record.topic()
+                        + ") at offset " + record.offset(), lane.exceptionNow(), record);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group commit for consumer writes. Listener threads of both topics drop upserts and
+ * statuses into one bounded queue; a single flusher drains it into batches that close on
+ * {@code max-batch} entries or {@code max-delay} after the first one, and writes each batch
+ * in one transaction: one bulk upsert plus one {@link StatusBatchWriter} call. Statuses parked
+ * in Redis during a flush that then rolls back stay parked, which is harmless because the
+ * retried batch parks the same values again. Every submit returns a future that completes
+ * when its batch is committed, which is what the listeners ack on; writes still queued when
+ * the flusher has stopped complete exceptionally instead of waiting forever.
+ */
+@Component
+@Slf4j
+public class WriteBehindBuffer {
+
+    private static final long IDLE_POLL_MS = 200;
+
+    private final VideoUseCase videoUseCase;
+    private final StatusBatchWriter statusBatchWriter;
+    private final TransactionOperations transactions;
+    private final BlockingQueue<Write> queue;
+    private final int maxBatch;
+    private final long maxDelayNanos;
+    private final DistributionSummary batchSizes;
+    private final boolean startFlusher;
+    private volatile Thread flusher;
+    private volatile boolean running = true;
+    private volatile boolean stopped;
+
+    public WriteBehindBuffer(VideoUseCase videoUseCase,
+                             StatusBatchWriter statusBatchWriter,
+                             TransactionOperations transactions,
+                             MeterRegistry meterRegistry,
+                             @Value("${video-management.write-behind.capacity:10000}") int capacity,
+                             @Value("${video-management.write-behind.max-batch:500}") int maxBatch,
+                             @Value("${video-management.write-behind.max-delay:50ms}") Duration maxDelay) {
+        this(videoUseCase, statusBatchWriter, transactions, meterRegistry, capacity, maxBatch, maxDelay, true);
+    }
+
+    WriteBehindBuffer(VideoUseCase videoUseCase, StatusBatchWriter statusBatchWriter, TransactionOperations transactions,
+                      MeterRegistry meterRegistry, int capacity, int maxBatch, Duration maxDelay, boolean startFlusher) {
+        this.videoUseCase = videoUseCase;
+        this.statusBatchWriter = statusBatchWriter;
+        this.transactions = transactions;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.startFlusher = startFlusher;
+        Gauge.builder("video.writebehind.queue.size", queue, BlockingQueue::size)
+                .description("Writes waiting for the next group commit")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("video.writebehind.batch.size")
+                .description("Writes per group commit")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Void> submitUpsert(Video video) {
+        return enqueue(new Write(video, null));
+    }
+
+    public CompletableFuture<Void> submitStatus(VideoStatusMessage message) {
+        return enqueue(new Write(null, message));
+    }
+
+    /**
+     * Waits while the queue is full, which slows the poll loop down instead of growing the heap,
+     * but in bounded steps so a shutdown that starts meanwhile is noticed.
+     */
+    private CompletableFuture<Void> enqueue(Write write) {
+        startFlusherIfNeeded();
+        try {
+            while (running) {
+                if (queue.offer(write, IDLE_POLL_MS, TimeUnit.MILLISECONDS)) {
+                    // Queued after the flusher's last drain: nobody else will ever complete it.
+                    if (stopped) failQueued();
+                    return write.done;
+                }
+            }
+            write.done.completeExceptionally(new IllegalStateException("Write-behind buffer is shut down"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write.done.completeExceptionally(e);
+        }
+        return write.done;
+    }
+
+    private void run() {
+        List<Write> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            flush(batch);
+        }
+        drainAndFlush();
+        stop();
+    }
+
+    /** Waits for a first write, then keeps the batch open until it is full or its deadline passes. */
+    private void collect(List<Write> batch) throws InterruptedException {
+        // Bounded wait so an idle flusher still notices shutdown without being interrupted mid-write.
+        Write first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) return;
+            Write next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    /** Flushes everything currently queued, in batches of at most {@code max-batch}. */
+    void drainAndFlush() {
+        List<Write> batch = new ArrayList<>(maxBatch);
+        while (queue.drainTo(batch, maxBatch) > 0) {
+            flush(batch);
+        }
+    }
+
+    /** Fails whatever a listener managed to queue after the final drain. */
+    private void stop() {
+        stopped = true;
+        failQueued();
+    }
+
+    private void failQueued() {
+        List<Write> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (leftover.isEmpty()) return;
+        log.warn("Write-behind buffer stopped with {} writes queued; failing them", leftover.size());
+        IllegalStateException shutDown = new IllegalStateException("Write-behind buffer is shut down");
+        leftover.forEach(write -> write.done.completeExceptionally(shutDown));
+    }
+
+    private void flush(List<Write> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            transactions.executeWithoutResult(status -> write(batch));
+            batch.forEach(write -> write.done.complete(null));
+        } catch (Exception e) {
+            log.error("Error flushing write-behind batch of {}: {}", batch.size(), e.getMessage(), e);
+            batch.forEach(write -> write.done.completeExceptionally(e));
+        } finally {
+            batchSizes.record(batch.size());
+            batch.clear();
+        }
+    }
+
+    /** Upserts go first so statuses for videos created in the same batch apply directly. */
+    private void write(List<Write> batch) {
+        Map<UUID, Video> videos = new LinkedHashMap<>();
+        Map<UUID, VideoStatusMessage> statuses = new LinkedHashMap<>();
+        for (Write write : batch) {
+            if (write.video != null) {
+                // Same collapse as the batch listener: the first message creates the row, later ones only move the url.
+                videos.merge(write.video.getId(), write.video, (first, later) -> {
+                    first.setUrl(later.getUrl());
+                    return first;
+                });
+            } else {
+                statuses.put(write.status.getVideoId(), write.status);
+            }
+        }
+        if (!videos.isEmpty()) videoUseCase.upsertVideos(new ArrayList<>(videos.values()));
+        statusBatchWriter.write(statuses);
+        log.info("Write-behind flush: {} writes, {} videos, {} statuses", batch.size(), videos.size(), statuses.size());
+    }
+
+    private void startFlusherIfNeeded() {
+        if (!startFlusher || flusher != null) return;
+        synchronized (this) {
+            if (flusher == null) {
+                flusher = Thread.ofPlatform().name("write-behind-flusher").daemon().start(this::run);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread = flusher;
+        if (thread == null) {
+            drainAndFlush();
+            stop();
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Write {
+        private final Video video;
+        private final VideoStatusMessage status;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Write(Video video, VideoStatusMessage status) {
+            this.video = video;
+            this.status = status;
+        }
+    }
+}
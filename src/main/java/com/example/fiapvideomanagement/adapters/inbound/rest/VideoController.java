@@ -1,21 +1,41 @@
 package com.example.fiapvideomanagement.adapters.inbound.rest;
 
 
+import com.example.fiapvideomanagement.domain.model.InvalidPageRequestException;
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoPage;
 import com.example.fiapvideomanagement.service.VideoService;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/videos")
-@RequiredArgsConstructor
 public class VideoController {
 
     private final VideoService videoService;
+    private final ObjectMapper objectMapper;
+    private final Duration streamMaxDuration;
+
+    public VideoController(VideoService videoService,
+                           ObjectMapper objectMapper,
+                           @Value("${video-management.stream.max-duration:60s}") Duration streamMaxDuration) {
+        this.videoService = videoService;
+        this.objectMapper = objectMapper;
+        this.streamMaxDuration = streamMaxDuration;
+    }
 
     @GetMapping
     public ResponseEntity<List<Video>> findByCustomerEmail(@RequestParam String customerEmail) {
@@ -23,6 +43,43 @@ public class VideoController {
         return ResponseEntity.ok(list);
     }
 
+    /**
+     * Same listing as {@link #findByCustomerEmail} for clients that accept {@code application/x-ndjson}:
+     * one video per line, written while the rows are still being read. The read transaction, and
+     * so a pooled connection, stays open until the last line is written, which a slow client can
+     * drag out; past {@code video-management.stream.max-duration} the stream is cut off and the
+     * connection released. The backpressure check sees that hold time in the pool's usage metric.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByCustomerEmail(@RequestParam String customerEmail) {
+        ObjectWriter writer = objectMapper.writerFor(Video.class);
+        StreamingResponseBody body = out -> {
+            long deadline = System.nanoTime() + streamMaxDuration.toNanos();
+            videoService.streamByCustomerEmail(customerEmail, video -> {
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new IllegalStateException("NDJSON stream exceeded " + streamMaxDuration + ", closing it");
+                }
+                try {
+                    out.write(writer.writeValueAsBytes(video));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /** JSON only, so an NDJSON request that also sends {@code limit} still reaches the stream. */
+    @GetMapping(params = "limit", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VideoPage> findPageByCustomerEmail(@RequestParam String customerEmail,
+                                                             @RequestParam int limit,
+                                                             @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(videoService.findPageByCustomerEmail(customerEmail, cursor, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Video> getById(@PathVariable UUID id) {
         return videoService.findById(id)
@@ -35,4 +92,10 @@ public class VideoController {
         videoService.createVideo(video);
         return ResponseEntity.ok().build();
     }
+
+    /** Only the paging inputs map to 400; other IllegalArgumentExceptions keep their default handling. */
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ProblemDetail handleInvalidPageRequest(InvalidPageRequestException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.fiapvideomanagement.adapters.outbound.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Two-tier cache: a bounded, TTL-evicting in-process Caffeine map in front of a shared
+ * Redis cache. Evictions clear both tiers here and are broadcast so other replicas drop
+ * their local copy.
+ */
+public class NearCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final NearCacheInvalidation invalidation;
+
+    public NearCache(String name,
+                     com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                     Cache remote,
+                     NearCacheInvalidation invalidation) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidation = invalidation;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) return value;
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue == null) return null;
+        Object storeValue = toStoreValue(remoteValue.get());
+        local.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) return (T) cached.get();
+
+        T value = remote.get(key, valueLoader);
+        local.put(localKey(key), toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(localKey(key));
+        invalidation.publish(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        invalidation.publish(name, null);
+    }
+
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.fiapvideomanagement.adapters.outbound.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Broadcasts local-tier invalidations over Redis pub/sub. Messages are
+ * {@code instanceId|cacheName|key}; an empty key clears the whole local tier, and
+ * messages sent by this instance are ignored since it already evicted locally.
+ */
+@Slf4j
+public class NearCacheInvalidation {
+
+    public static final String CHANNEL = "video-management:cache-invalidation";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public NearCacheInvalidation(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key));
+        } catch (Exception e) {
+            // Other replicas fall back to the local TTL; the write itself already succeeded.
+            log.warn("Could not broadcast cache invalidation for {}:{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    public void receive(byte[] body, NearCacheManager cacheManager) {
+        String[] parts = new String(body, StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3 || instanceId.equals(parts[0])) return;
+
+        NearCache cache = cacheManager.getNearCache(parts[1]);
+        if (cache == null) return;
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
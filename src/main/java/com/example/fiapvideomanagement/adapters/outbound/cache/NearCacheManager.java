@@ -0,0 +1,31 @@
+package com.example.fiapvideomanagement.adapters.outbound.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transaction-aware so evictions issued inside a {@code @Transactional} write only hit
+ * the caches after commit, when readers can no longer load the old row.
+ */
+public class NearCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final Map<String, NearCache> nearCaches = new LinkedHashMap<>();
+
+    public NearCacheManager(Collection<NearCache> caches) {
+        caches.forEach(cache -> nearCaches.put(cache.getName(), cache));
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return nearCaches.values();
+    }
+
+    public NearCache getNearCache(String name) {
+        return nearCaches.get(name);
+    }
+}
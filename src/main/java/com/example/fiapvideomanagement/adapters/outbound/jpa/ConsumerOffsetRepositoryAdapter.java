@@ -0,0 +1,49 @@
+package com.example.fiapvideomanagement.adapters.outbound.jpa;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC on purpose: the statements join whatever transaction the caller has open, so
+ * offsets commit or roll back together with the rows they describe.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsumerOffsetRepositoryAdapter implements ConsumerOffsetStorePort {
+
+    /** Never moves an offset backwards, so a replayed or reordered batch cannot rewind the partition. */
+    private static final String UPSERT_SQL = """
+            INSERT INTO consumer_offset (topic, partition_id, next_offset, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (topic, partition_id) DO UPDATE SET
+                next_offset = GREATEST(consumer_offset.next_offset, EXCLUDED.next_offset),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_SQL =
+            "SELECT topic, partition_id, next_offset FROM consumer_offset WHERE topic = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveOffsets(Collection<ConsumedOffset> offsets) {
+        if (offsets.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(UPSERT_SQL, offsets.stream()
+                .map(offset -> new Object[]{offset.getTopic(), offset.getPartition(), offset.getNextOffset(), now})
+                .toList());
+    }
+
+    @Override
+    public List<ConsumedOffset> findOffsets(String topic) {
+        return jdbcTemplate.query(FIND_SQL, (rs, rowNum) -> new ConsumedOffset(
+                rs.getString("topic"), rs.getInt("partition_id"), rs.getLong("next_offset")), topic);
+    }
+}
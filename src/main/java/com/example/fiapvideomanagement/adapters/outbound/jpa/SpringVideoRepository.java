@@ -1,10 +1,52 @@
 package com.example.fiapvideomanagement.adapters.outbound.jpa;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface SpringVideoRepository extends JpaRepository<VideoEntity, UUID> {
     List<VideoEntity> findByCustomerEmail(String customerEmail);
+
+    List<VideoEntity> findByCustomerEmailOrderByCreatedAtDescIdDesc(String customerEmail, Pageable pageable);
+
+    @Query("""
+            SELECT v FROM VideoEntity v
+            WHERE v.customerEmail = :customerEmail
+              AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id))
+            ORDER BY v.createdAt DESC, v.id DESC
+            """)
+    List<VideoEntity> findByCustomerEmailAfter(@Param("customerEmail") String customerEmail,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") UUID id,
+                                               Pageable pageable);
+
+    @Query("SELECT v.id FROM VideoEntity v ORDER BY v.id")
+    List<UUID> findIds(Pageable pageable);
+
+    @Query("SELECT v.id FROM VideoEntity v WHERE v.id > :after ORDER BY v.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Backed by a JDBC cursor: rows are pulled 500 at a time instead of all at once.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VideoEntity> streamByCustomerEmailOrderByCreatedAtDescIdDesc(String customerEmail);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE VideoEntity v SET v.status = :status, v.updatedAt = :updatedAt WHERE v.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") String status, @Param("updatedAt") LocalDateTime updatedAt);
 }
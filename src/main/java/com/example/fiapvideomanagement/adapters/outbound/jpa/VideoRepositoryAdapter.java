@@ -1,81 +1,142 @@
 package com.example.fiapvideomanagement.adapters.outbound.jpa;
 
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
 import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
+import com.example.fiapvideomanagement.mapper.Mapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class VideoRepositoryAdapter implements VideoRepositoryPort {
 
+    /**
+     * On conflict only the fields carried by a video-data message are refreshed;
+     * created_at is left untouched and status only changes when a parked one was merged in.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO video (id, name, url, customer_id, customer_email, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET url = EXCLUDED.url,
+                status = COALESCE(EXCLUDED.status, video.status),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String UPDATE_STATUS_SQL = "UPDATE video SET status = ?, updated_at = ? WHERE id = ?";
+
     private final SpringVideoRepository springRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public Video save(Video video) {
-        VideoEntity entity = VideoEntity.builder()
-                .id(video.getId())
-                .name(video.getName())
-                .url(video.getUrl())
-                .customerId(video.getCustomerId())
-                .customerEmail(video.getCustomerEmail())
-                .status(video.getStatus())
-                .createdAt(video.getCreatedAt())
-                .updatedAt(video.getUpdatedAt())
-                .build();
-
-        var saved = springRepo.save(entity);
-        return Video.builder()
-                .id(saved.getId())
-                .name(saved.getName())
-                .url(saved.getUrl())
-                .customerId(saved.getCustomerId())
-                .customerEmail(saved.getCustomerEmail())
-                .status(saved.getStatus())
-                .createdAt(saved.getCreatedAt())
-                .updatedAt(saved.getUpdatedAt())
-                .build();
+        return Mapper.toVideo(springRepo.save(Mapper.toVideoEntity(video)));
     }
 
     @Override
     public Optional<Video> findById(UUID id) {
-        return springRepo.findById(id)
-                .map(e -> Video.builder()
-                        .id(e.getId())
-                        .name(e.getName())
-                        .url(e.getUrl())
-                        .customerId(e.getCustomerId())
-                        .customerEmail(e.getCustomerEmail())
-                        .status(e.getStatus())
-                        .createdAt(e.getCreatedAt())
-                        .updatedAt(e.getUpdatedAt())
-                        .build());
+        return springRepo.findById(id).map(Mapper::toVideo);
     }
 
     @Override
     public List<Video> findByCustomerEmail(String customerEmail) {
         return springRepo.findByCustomerEmail(customerEmail)
                 .stream()
-                .map(e -> Video.builder()
-                        .id(e.getId())
-                        .name(e.getName())
-                        .url(e.getUrl())
-                        .customerId(e.getCustomerId())
-                        .customerEmail(e.getCustomerEmail())
-                        .status(e.getStatus())
-                        .createdAt(e.getCreatedAt())
-                        .updatedAt(e.getUpdatedAt())
-                        .build())
+                .map(Mapper::toVideo)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Video> findByCustomerEmailAfter(String customerEmail, VideoCursor after, int limit) {
+        var page = PageRequest.of(0, limit);
+        var entities = after == null
+                ? springRepo.findByCustomerEmailOrderByCreatedAtDescIdDesc(customerEmail, page)
+                : springRepo.findByCustomerEmailAfter(customerEmail, after.getCreatedAt(), after.getId(), page);
+        return entities.stream()
+                .map(Mapper::toVideo)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<UUID> findIdsAfter(UUID after, int limit) {
+        var page = PageRequest.of(0, limit);
+        return after == null ? springRepo.findIds(page) : springRepo.findIdsAfter(after, page);
+    }
+
+    @Override
+    public void forEachByCustomerEmail(String customerEmail, Consumer<Video> action) {
+        try (var entities = springRepo.streamByCustomerEmailOrderByCreatedAtDescIdDesc(customerEmail)) {
+            entities.forEach(entity -> {
+                // Detach as we go so the persistence context does not grow with the result set.
+                entityManager.detach(entity);
+                action.accept(Mapper.toVideo(entity));
+            });
+        }
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return springRepo.existsById(id);
     }
+
+    @Override
+    public void upsertFromMessage(Video video) {
+        jdbcTemplate.update(UPSERT_SQL, ps -> bindUpsert(ps, video));
+    }
+
+    @Override
+    public void upsertAll(List<Video> videos) {
+        if (videos.isEmpty()) return;
+        jdbcTemplate.batchUpdate(UPSERT_SQL, videos, videos.size(), VideoRepositoryAdapter::bindUpsert);
+    }
+
+    @Override
+    public int updateStatus(UUID id, String status, LocalDateTime updatedAt) {
+        return springRepo.updateStatus(id, status, updatedAt);
+    }
+
+    /** One JDBC batch; returns the ids whose row existed and was updated. */
+    @Override
+    public Set<UUID> updateStatuses(Map<UUID, String> statuses, LocalDateTime updatedAt) {
+        if (statuses.isEmpty()) return Set.of();
+        List<Map.Entry<UUID, String>> entries = List.copyOf(statuses.entrySet());
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), updatedAt, entry.getKey()})
+                .toList());
+
+        Set<UUID> updated = new HashSet<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) updated.add(entries.get(i).getKey());
+        }
+        return updated;
+    }
+
+    private static void bindUpsert(PreparedStatement ps, Video video) throws SQLException {
+        ps.setObject(1, video.getId());
+        ps.setString(2, video.getName());
+        ps.setString(3, video.getUrl());
+        ps.setObject(4, video.getCustomerId(), Types.BIGINT);
+        ps.setString(5, video.getCustomerEmail());
+        ps.setString(6, video.getStatus());
+        ps.setObject(7, video.getCreatedAt());
+        ps.setObject(8, video.getUpdatedAt());
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.fiapvideomanagement.adapters.outbound.local;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: each level is a ring of {@code wheelSize} buckets of {@code tickMs},
+ * and deadlines beyond a level's span go to a lazily created overflow level whose tick is the
+ * span below. Insert is O(1); advancing one tick drains one bucket, cascading overflow buckets
+ * down as their time comes. Items fire at tick granularity, up to one tick early.
+ * <p>
+ * Not thread-safe.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final ArrayDeque<Timed<T>>[] buckets;
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /** Returns {@code false} when the deadline is already due, in which case nothing is stored. */
+    boolean add(long deadlineMs, T item) {
+        return add(new Timed<>(deadlineMs, item));
+    }
+
+    /** Moves the clock to {@code nowMs}, handing every item that came due to {@code expired}. */
+    void advance(long nowMs, Consumer<T> expired) {
+        advanceTimed(nowMs, timed -> expired.accept(timed.item()));
+    }
+
+    private boolean add(Timed<T> timed) {
+        if (timed.deadlineMs() < currentTime + tickMs) return false;
+        if (timed.deadlineMs() < currentTime + interval) {
+            buckets[bucketIndex(timed.deadlineMs())].add(timed);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.add(timed);
+    }
+
+    /** Keeps the deadline with each due item, so a lower level can re-slot what its overflow hands back. */
+    private void advanceTimed(long nowMs, Consumer<Timed<T>> due) {
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            if (overflowWheel != null) {
+                overflowWheel.advanceTimed(currentTime, timed -> {
+                    if (!add(timed)) due.accept(timed);
+                });
+            }
+            ArrayDeque<Timed<T>> bucket = buckets[bucketIndex(currentTime)];
+            Timed<T> timed;
+            while ((timed = bucket.poll()) != null) {
+                due.accept(timed);
+            }
+        }
+    }
+
+    private int bucketIndex(long timeMs) {
+        return (int) ((timeMs / tickMs) % wheelSize);
+    }
+
+    private record Timed<T>(long deadlineMs, T item) {
+    }
+}
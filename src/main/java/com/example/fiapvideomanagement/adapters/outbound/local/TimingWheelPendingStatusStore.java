@@ -0,0 +1,232 @@
+package com.example.fiapvideomanagement.adapters.outbound.local;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps parked statuses in process for a short window and only spills the ones still
+ * unclaimed after it to {@code spillOver} (Redis), so a status that is resolved within
+ * seconds never costs a network round trip to park.
+ * <p>
+ * A key lives either here or in the spill-over store, never both: once a key has spilled,
+ * later saves for it go straight to the spill-over store until its TTL there has passed.
+ * Local misses always fall through to the spill-over store, so statuses spilled by another
+ * instance are still found. Statuses held locally are only visible to this instance, which
+ * is why {@link #spillAll()} must run whenever partitions are revoked.
+ */
+@Slf4j
+public class TimingWheelPendingStatusStore implements PendingStatusStorePort {
+
+    private static final int WHEEL_SIZE = 64;
+    /** Matches the spill-over store's key TTL, after which it no longer holds the key. */
+    private static final Duration SPILLED_TTL = Duration.ofSeconds(600);
+
+    private final PendingStatusStorePort spillOver;
+    private final long windowMs;
+    private final LongSupplier clock;
+    private final Map<String, Parked> local = new ConcurrentHashMap<>();
+    private final Map<String, Spilled> spilled = new ConcurrentHashMap<>();
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    /** Ticker and rebalance spills must not interleave, or one would delete the copy the other just wrote. */
+    private final ReentrantLock spillLock = new ReentrantLock();
+    private final TimingWheel<Object> wheel;
+    private final ScheduledExecutorService ticker;
+
+    public TimingWheelPendingStatusStore(PendingStatusStorePort spillOver, Duration window, Duration tick) {
+        this(spillOver, window, tick, System::currentTimeMillis, true);
+    }
+
+    TimingWheelPendingStatusStore(PendingStatusStorePort spillOver, Duration window, Duration tick,
+                                  LongSupplier clock, boolean startTicker) {
+        if (window.compareTo(tick) < 0) {
+            throw new IllegalArgumentException("video-management.pending.local.window must not be shorter than its tick");
+        }
+        this.spillOver = spillOver;
+        this.windowMs = window.toMillis();
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(tick.toMillis(), WHEEL_SIZE, clock.getAsLong());
+        this.ticker = startTicker
+                ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("pending-status-wheel").daemon().factory())
+                : null;
+        if (ticker != null) {
+            ticker.scheduleAtFixedRate(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void savePendingStatus(String videoId, VideoStatusMessage message) {
+        if (spilled.containsKey(videoId)) {
+            spillOver.savePendingStatus(videoId, message);
+            return;
+        }
+        Parked parked = new Parked(videoId, message);
+        local.put(videoId, parked);
+        schedule(clock.getAsLong() + windowMs, parked);
+    }
+
+    @Override
+    public Optional<VideoStatusMessage> getAndRemovePendingStatus(String videoId) {
+        Parked parked = local.remove(videoId);
+        if (parked != null) return Optional.of(parked.message);
+        spilled.remove(videoId);
+        return spillOver.getAndRemovePendingStatus(videoId);
+    }
+
+    @Override
+    public void savePendingStatuses(Map<String, VideoStatusMessage> messages) {
+        messages.forEach(this::savePendingStatus);
+    }
+
+    @Override
+    public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+        Map<String, VideoStatusMessage> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String videoId : videoIds) {
+            Parked parked = local.remove(videoId);
+            if (parked != null) {
+                found.put(videoId, parked.message);
+            } else {
+                spilled.remove(videoId);
+                misses.add(videoId);
+            }
+        }
+        if (!misses.isEmpty()) found.putAll(spillOver.getAndRemovePendingStatuses(misses));
+        return found;
+    }
+
+    /** Same placement rules as {@link #savePendingStatus}, but an entry already parked for the video wins. */
+    @Override
+    public void restorePendingStatuses(Map<String, VideoStatusMessage> messages) {
+        Map<String, VideoStatusMessage> remote = new LinkedHashMap<>();
+        messages.forEach((videoId, message) -> {
+            if (spilled.containsKey(videoId)) {
+                remote.put(videoId, message);
+                return;
+            }
+            Parked parked = new Parked(videoId, message);
+            if (local.putIfAbsent(videoId, parked) == null) schedule(clock.getAsLong() + windowMs, parked);
+        });
+        if (!remote.isEmpty()) spillOver.restorePendingStatuses(remote);
+    }
+
+    /** Moves every locally held status to the spill-over store, e.g. before partitions move to another instance. */
+    public void spillAll() {
+        List<Parked> all = new ArrayList<>(local.values());
+        if (!all.isEmpty()) {
+            log.info("Spilling {} locally parked statuses", all.size());
+            spill(all);
+        }
+    }
+
+    public void shutdown() {
+        if (ticker != null) ticker.shutdownNow();
+        spillAll();
+    }
+
+    int localSize() {
+        return local.size();
+    }
+
+    void tick() {
+        List<Parked> due = new ArrayList<>();
+        wheelLock.lock();
+        try {
+            wheel.advance(clock.getAsLong(), item -> {
+                if (item instanceof Parked parked) {
+                    due.add(parked);
+                } else if (item instanceof Spilled marker) {
+                    spilled.remove(marker.videoId, marker);
+                }
+            });
+        } finally {
+            wheelLock.unlock();
+        }
+        if (due.isEmpty()) return;
+        try {
+            spill(due);
+        } catch (Exception e) {
+            log.error("Could not spill {} parked statuses, keeping them locally: {}", due.size(), e.getMessage(), e);
+            due.forEach(parked -> schedule(clock.getAsLong() + windowMs, parked));
+        }
+    }
+
+    /**
+     * Writes first and only then drops the local copy, so a concurrent read never finds the
+     * status in neither place. A copy that was claimed or replaced locally meanwhile is removed again.
+     */
+    private void spill(List<Parked> batch) {
+        spillLock.lock();
+        try {
+            spillLocked(batch);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    private void spillLocked(List<Parked> batch) {
+        Map<String, VideoStatusMessage> writes = new LinkedHashMap<>();
+        for (Parked parked : batch) {
+            if (local.get(parked.videoId) == parked) writes.put(parked.videoId, parked.message);
+        }
+        if (writes.isEmpty()) return;
+        spillOver.savePendingStatuses(writes);
+
+        List<String> stale = new ArrayList<>();
+        long spilledUntil = clock.getAsLong() + SPILLED_TTL.toMillis();
+        for (Parked parked : batch) {
+            if (!writes.containsKey(parked.videoId)) continue;
+            if (local.remove(parked.videoId, parked)) {
+                Spilled marker = new Spilled(parked.videoId);
+                spilled.put(parked.videoId, marker);
+                schedule(spilledUntil, marker);
+            } else {
+                stale.add(parked.videoId);
+            }
+        }
+        if (!stale.isEmpty()) spillOver.getAndRemovePendingStatuses(stale);
+    }
+
+    /** Deadlines are always at least one tick ahead (window >= tick), so the wheel never rejects them. */
+    private void schedule(long deadlineMs, Object item) {
+        wheelLock.lock();
+        try {
+            wheel.add(deadlineMs, item);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    /** Identity matters: a newer save for the same video replaces the entry, and the old timer must not spill it. */
+    private static final class Parked {
+        private final String videoId;
+        private final VideoStatusMessage message;
+
+        private Parked(String videoId, VideoStatusMessage message) {
+            this.videoId = videoId;
+            this.message = message;
+        }
+    }
+
+    private static final class Spilled {
+        private final String videoId;
+
+        private Spilled(String videoId) {
+            this.videoId = videoId;
+        }
+    }
+}
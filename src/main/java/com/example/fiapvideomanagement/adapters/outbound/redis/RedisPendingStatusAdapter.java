@@ -3,11 +3,18 @@ package com.example.fiapvideomanagement.adapters.outbound.redis;
 import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @RequiredArgsConstructor
 @Component
@@ -31,4 +38,49 @@ public class RedisPendingStatusAdapter implements PendingStatusStorePort {
         VideoStatusMessage msg = redisTemplate.opsForValue().getAndDelete(redisKey);
         return Optional.ofNullable(msg);
     }
+
+    @Override
+    public void savePendingStatuses(Map<String, VideoStatusMessage> messages) {
+        if (messages.isEmpty()) return;
+        redisTemplate.executePipelined(pipelined(ops -> messages.forEach((videoId, message) ->
+                ops.opsForValue().set(PENDING_STATUS_PREFIX + videoId, message, STATUS_EXPIRATION_SECONDS, TimeUnit.SECONDS))));
+    }
+
+    /** SET NX, so a status parked after the original GETDEL is never overwritten by the older one. */
+    @Override
+    public void restorePendingStatuses(Map<String, VideoStatusMessage> messages) {
+        if (messages.isEmpty()) return;
+        redisTemplate.executePipelined(pipelined(ops -> messages.forEach((videoId, message) ->
+                ops.opsForValue().setIfAbsent(PENDING_STATUS_PREFIX + videoId, message, STATUS_EXPIRATION_SECONDS, TimeUnit.SECONDS))));
+    }
+
+    @Override
+    public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+        if (videoIds.isEmpty()) return Map.of();
+        List<String> ids = List.copyOf(videoIds);
+        // Replies come back in command order, one per GETDEL, null where nothing was parked.
+        List<Object> replies = redisTemplate.executePipelined(pipelined(ops ->
+                ids.forEach(videoId -> ops.opsForValue().getAndDelete(PENDING_STATUS_PREFIX + videoId))));
+
+        Map<String, VideoStatusMessage> found = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (replies.get(i) instanceof VideoStatusMessage message) {
+                found.put(ids.get(i), message);
+            }
+        }
+        return found;
+    }
+
+    /** Queues the commands issued by {@code commands} into one pipeline, flushed in a single round trip. */
+    private static SessionCallback<Object> pipelined(
+            Consumer<RedisOperations<String, VideoStatusMessage>> commands) {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, VideoStatusMessage>) operations);
+                return null;
+            }
+        };
+    }
 }
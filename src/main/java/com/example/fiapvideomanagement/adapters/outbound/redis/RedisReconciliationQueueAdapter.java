@@ -0,0 +1,128 @@
+package com.example.fiapvideomanagement.adapters.outbound.redis;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Delay queue in two sorted sets: {@code due} scored by when an entry should run and
+ * {@code inflight} scored by when a claim's lease runs out. Claiming moves entries from
+ * one to the other in a single script, so replicas never take the same entry twice, and
+ * leases left behind by a crashed replica go back to {@code due} on the next claim.
+ */
+@Component
+@Slf4j
+public class RedisReconciliationQueueAdapter implements ReconciliationQueuePort {
+
+    // Same hash tag so both keys land in one slot and the scripts stay valid on a cluster.
+    static final String DUE_KEY = "{reconciliation}:due";
+    static final String INFLIGHT_KEY = "{reconciliation}:inflight";
+
+    private static final RedisScript<List> CLAIM = RedisScript.of("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, member in ipairs(expired) do
+              redis.call('ZREM', KEYS[2], member)
+              redis.call('ZADD', KEYS[1], ARGV[1], member)
+            end
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, member in ipairs(due) do
+              redis.call('ZREM', KEYS[1], member)
+              redis.call('ZADD', KEYS[2], ARGV[3], member)
+            end
+            return due
+            """, List.class);
+
+    /** ARGV: retryAt, number of done members, done members..., retry members... */
+    private static final RedisScript<Long> COMPLETE = RedisScript.of("""
+            local doneCount = tonumber(ARGV[2])
+            for i = 3, #ARGV do
+              redis.call('ZREM', KEYS[2], ARGV[i])
+              if i > doneCount + 2 then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+              end
+            end
+            return #ARGV - 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final Duration delay;
+    private final Duration lease;
+
+    public RedisReconciliationQueueAdapter(StringRedisTemplate redisTemplate,
+                                           @Value("${video-management.reconciliation.delay:30s}") Duration delay,
+                                           @Value("${video-management.reconciliation.lease:60s}") Duration lease) {
+        this(redisTemplate, Clock.systemUTC(), delay, lease);
+    }
+
+    RedisReconciliationQueueAdapter(StringRedisTemplate redisTemplate, Clock clock, Duration delay, Duration lease) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.delay = delay;
+        this.lease = lease;
+    }
+
+    @Override
+    public void enqueue(PendingReconciliation reconciliation) {
+        long dueAt = clock.millis() + delay.toMillis();
+        redisTemplate.opsForZSet().add(DUE_KEY, toMember(reconciliation), dueAt);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PendingReconciliation> claimDue(int limit) {
+        long now = clock.millis();
+        List<String> members = redisTemplate.execute(CLAIM, List.of(DUE_KEY, INFLIGHT_KEY),
+                Long.toString(now), Integer.toString(limit), Long.toString(now + lease.toMillis()));
+        if (members == null || members.isEmpty()) return List.of();
+
+        List<PendingReconciliation> claimed = new ArrayList<>(members.size());
+        for (String member : members) {
+            try {
+                claimed.add(fromMember(member));
+            } catch (IllegalArgumentException e) {
+                log.warn("Dropping malformed reconciliation entry {}", member);
+                redisTemplate.opsForZSet().remove(INFLIGHT_KEY, member);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void complete(List<PendingReconciliation> done, List<PendingReconciliation> retry) {
+        if (done.isEmpty() && retry.isEmpty()) return;
+        List<String> args = new ArrayList<>(done.size() + retry.size() + 2);
+        args.add(Long.toString(clock.millis() + delay.toMillis()));
+        args.add(Integer.toString(done.size()));
+        done.forEach(reconciliation -> args.add(toMember(reconciliation)));
+        retry.forEach(reconciliation -> args.add(toMember(reconciliation)));
+        redisTemplate.execute(COMPLETE, List.of(DUE_KEY, INFLIGHT_KEY), args.toArray());
+    }
+
+    static String toMember(PendingReconciliation reconciliation) {
+        return reconciliation.getVideoId() + "|" + reconciliation.getParkedAt().toEpochMilli();
+    }
+
+    static PendingReconciliation fromMember(String member) {
+        int separator = member.indexOf('|');
+        if (separator < 0) throw new IllegalArgumentException("Malformed reconciliation entry");
+        try {
+            return new PendingReconciliation(
+                    UUID.fromString(member.substring(0, separator)),
+                    Instant.ofEpochMilli(Long.parseLong(member.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed reconciliation entry", e);
+        }
+    }
+}
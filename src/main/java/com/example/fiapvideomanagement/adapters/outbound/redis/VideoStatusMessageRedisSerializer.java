@@ -0,0 +1,144 @@
+package com.example.fiapvideomanagement.adapters.outbound.redis;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary encoding of a parked {@link VideoStatusMessage}:
+ * <pre>
+ * version:1 | flags:1 | videoId:16 | status:1 [| statusLen:varint statusUtf8] | name | email
+ * </pre>
+ * Strings are a varint of {@code length + 1} followed by UTF-8 bytes, {@code 0} meaning null.
+ * Well-known statuses are a single code byte; anything else is written as code {@code 0}
+ * plus the literal. Values written by the previous JSON serializer (first byte {@code '{'})
+ * are still readable so parked statuses survive a rollout.
+ */
+public class VideoStatusMessageRedisSerializer implements RedisSerializer<VideoStatusMessage> {
+
+    static final byte VERSION = 1;
+
+    private static final byte HAS_VIDEO_ID = 1;
+    private static final byte LITERAL_STATUS = 0;
+    private static final byte NULL_STATUS = -1;
+
+    /** Append only: a status's code is its index + 1 and is persisted in Redis. */
+    private static final List<String> KNOWN_STATUSES = List.of(
+            "PENDING", "PROCESSING", "PROCESSED", "DONE", "ERROR", "FAILED");
+
+    private final Jackson2JsonRedisSerializer<VideoStatusMessage> legacyJson =
+            new Jackson2JsonRedisSerializer<>(VideoStatusMessage.class);
+
+    @Override
+    public byte[] serialize(VideoStatusMessage message) {
+        if (message == null) return null;
+
+        byte statusCode = statusCode(message.getVideoStatus());
+        byte[] status = statusCode == LITERAL_STATUS ? utf8(message.getVideoStatus()) : null;
+        byte[] name = utf8(message.getVideoName());
+        byte[] email = utf8(message.getCustomerEmail());
+
+        int size = 1 + 1 + 16 + 1 + sizeOf(name) + sizeOf(email)
+                + (statusCode == LITERAL_STATUS ? sizeOf(status) : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        UUID videoId = message.getVideoId();
+        buffer.put(videoId != null ? HAS_VIDEO_ID : 0);
+        buffer.putLong(videoId != null ? videoId.getMostSignificantBits() : 0);
+        buffer.putLong(videoId != null ? videoId.getLeastSignificantBits() : 0);
+        buffer.put(statusCode);
+        if (statusCode == LITERAL_STATUS) putString(buffer, status);
+        putString(buffer, name);
+        putString(buffer, email);
+        return buffer.array();
+    }
+
+    @Override
+    public VideoStatusMessage deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] == '{') return legacyJson.deserialize(bytes);
+        if (bytes[0] != VERSION) {
+            throw new SerializationException("Unsupported pending status encoding version " + bytes[0]);
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            boolean hasVideoId = (buffer.get() & HAS_VIDEO_ID) != 0;
+            long msb = buffer.getLong();
+            long lsb = buffer.getLong();
+            byte statusCode = buffer.get();
+            String status = switch (statusCode) {
+                case LITERAL_STATUS -> getString(buffer);
+                case NULL_STATUS -> null;
+                default -> KNOWN_STATUSES.get(statusCode - 1);
+            };
+            return VideoStatusMessage.builder()
+                    .videoId(hasVideoId ? new UUID(msb, lsb) : null)
+                    .videoStatus(status)
+                    .videoName(getString(buffer))
+                    .customerEmail(getString(buffer))
+                    .build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated pending status value", e);
+        }
+    }
+
+    private static byte statusCode(String status) {
+        if (status == null) return NULL_STATUS;
+        int index = KNOWN_STATUSES.indexOf(status);
+        return index < 0 ? LITERAL_STATUS : (byte) (index + 1);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(byte[] value) {
+        int length = value == null ? 0 : value.length + 1;
+        return varintSize(length) + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        putVarint(buffer, value == null ? 0 : value.length + 1);
+        if (value != null) buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = getVarint(buffer);
+        if (length == 0) return null;
+        String value = new String(buffer.array(), buffer.position(), length - 1, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length - 1);
+        return value;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) size++;
+        return size;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new SerializationException("Malformed length in pending status value");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.adapters.outbound.cache.NearCache;
+import com.example.fiapvideomanagement.adapters.outbound.cache.NearCacheInvalidation;
+import com.example.fiapvideomanagement.adapters.outbound.cache.NearCacheManager;
+import com.example.fiapvideomanagement.service.VideoService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "video-management.cache.near.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    @Value("${video-management.cache.near.local-ttl:5s}")
+    private Duration localTtl;
+
+    @Value("${video-management.cache.near.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${video-management.cache.near.remote-ttl:60s}")
+    private Duration remoteTtl;
+
+    @Bean
+    public NearCacheInvalidation nearCacheInvalidation(StringRedisTemplate stringRedisTemplate) {
+        return new NearCacheInvalidation(stringRedisTemplate);
+    }
+
+    @Bean
+    public NearCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                         NearCacheInvalidation invalidation,
+                                         MeterRegistry meterRegistry) {
+        RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                        .entryTtl(remoteTtl)
+                        .disableCachingNullValues())
+                .build();
+        remote.initializeCaches();
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, VideoService.VIDEO_CACHE + ".local");
+
+        NearCache videos = new NearCache(VideoService.VIDEO_CACHE, local, remote.getCache(VideoService.VIDEO_CACHE), invalidation);
+        return new NearCacheManager(List.of(videos));
+    }
+
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                       NearCacheInvalidation invalidation,
+                                                                       NearCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> invalidation.receive(message.getBody(), cacheManager),
+                new ChannelTopic(NearCacheInvalidation.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.service.MessageStageEvent;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code /actuator/jfr}: starts (POST), inspects (GET) and stops (DELETE) a Flight Recorder
+ * recording with the JDK "profile" settings plus every {@link MessageStageEvent}. The file is
+ * written under the configured directory; fetch it with {@code kubectl cp} and open it in JMC.
+ * Only one recording runs at a time, it stops by itself after the requested duration (capped
+ * at the configured maximum), and only the most recent files are kept on disk.
+ * Not exposed over HTTP unless {@code management.endpoints.web.exposure.include} names it.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private final Path directory;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final int maxFiles;
+    private Recording recording;
+    private Path destination;
+
+    public JfrRecordingEndpoint(@Value("${video-management.jfr.directory:${java.io.tmpdir}}") Path directory,
+                                @Value("${video-management.jfr.default-duration:60s}") Duration defaultDuration,
+                                @Value("${video-management.jfr.max-duration:5m}") Duration maxDuration,
+                                @Value("${video-management.jfr.max-files:3}") int maxFiles) {
+        this.directory = directory;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxFiles = maxFiles;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe();
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Long durationSeconds) throws Exception {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) return describe();
+        closeRecording();
+
+        Duration duration = durationSeconds == null ? defaultDuration : Duration.ofSeconds(Math.max(1, durationSeconds));
+        if (duration.compareTo(maxDuration) > 0) duration = maxDuration;
+        Files.createDirectories(directory);
+        deleteOldRecordings();
+        destination = directory.resolve("video-management-" + Instant.now().toEpochMilli() + ".jfr");
+
+        Recording started = new Recording(Configuration.getConfiguration("profile"));
+        started.setName("video-management");
+        started.enable(MessageStageEvent.NAME).withoutThreshold();
+        started.setDestination(destination);
+        started.setDuration(duration);
+        started.setToDisk(true);
+        started.start();
+        recording = started;
+        log.info("JFR recording started for {}, writing to {}", duration, destination);
+        return describe();
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped, written to {}", destination);
+        }
+        return describe();
+    }
+
+    /** A recording still running at shutdown is dumped rather than lost. */
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            body.put("startedAt", recording.getStartTime());
+            body.put("duration", recording.getDuration());
+            body.put("file", destination.toString());
+        }
+        return body;
+    }
+
+    /** Leaves room for the recording about to start, so at most {@code maxFiles} stay on disk. */
+    private void deleteOldRecordings() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().matches("video-management-\\d+\\.jfr"))
+                    .sorted(Comparator.comparing(Path::toString))
+                    .toList();
+        }
+        for (Path old : files.subList(0, Math.max(0, files.size() - maxFiles + 1))) {
+            Files.deleteIfExists(old);
+            log.info("Deleted old JFR recording {}", old);
+        }
+    }
+
+    /** The previous recording's file stays on disk; only its in-memory handle is released. */
+    private void closeRecording() {
+        if (recording == null) return;
+        recording.close();
+        recording = null;
+    }
+}
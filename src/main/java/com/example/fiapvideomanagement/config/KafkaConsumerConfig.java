@@ -1,40 +1,105 @@
-/*
-package com.example.fiapvideomanagement;
+package com.example.fiapvideomanagement.config;
 
+import com.example.fiapvideomanagement.adapters.inbound.messaging.InvalidMessageException;
+import com.example.fiapvideomanagement.adapters.inbound.messaging.OffsetSeekingRebalanceListener;
+import com.fasterxml.jackson.core.JacksonException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.ContainerCustomizer;
 import org.springframework.kafka.core.ConsumerFactory;
-import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Properties;
 
 @Configuration
 public class KafkaConsumerConfig {
 
-    @Value("${spring.kafka.bootstrap-servers}")
-    private String bootstrapServers;
+    /** Container factory for listeners that receive the whole poll as a {@code List}. */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            ObjectProvider<ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>> containerCustomizer) {
+        return batchFactory(configurer, kafkaConsumerFactory, containerCustomizer);
+    }
+
+    /**
+     * Batch factory whose listeners store their offsets in Postgres with the rows they wrote.
+     * Partitions resume from those offsets on assignment, which is what makes larger polls safe.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> transactionalKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            ObjectProvider<ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>> containerCustomizer,
+            OffsetSeekingRebalanceListener offsetSeekingRebalanceListener,
+            @Value("${video-management.consumer.transactional.max-poll-records:2000}") int maxPollRecords) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                batchFactory(configurer, kafkaConsumerFactory, containerCustomizer);
+        factory.getContainerProperties().setConsumerRebalanceListener(offsetSeekingRebalanceListener);
+        Properties overrides = new Properties();
+        overrides.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.toString(maxPollRecords));
+        factory.getContainerProperties().setKafkaConsumerProperties(overrides);
+        return factory;
+    }
 
+    /**
+     * Publishes a record unchanged to {@code <topic>.DLT}, keeping its key so the partitioner
+     * places it like the original. Values are raw bytes on both sides, see application.properties.
+     */
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
-        Map<String, Object> props = new HashMap<>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, "video-management-group");
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        return new DefaultKafkaConsumerFactory<>(props);
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaOperations<Object, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
     }
 
+    /**
+     * Applied by Boot's configurer to every factory; the video-data record listener's container
+     * gets the retry-topic handler instead. Payloads that do not parse or are otherwise invalid go
+     * straight to the dead-letter topic. Anything else is retried in place on the {@code video-management.retry.*} schedule,
+     * a failed batch listener call retrying the whole poll, and once the attempts are used up
+     * every record of the failed delivery is published to the dead-letter topic and skipped.
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    public DefaultErrorHandler kafkaErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+                                                 @Value("${video-management.retry.attempts:4}") int attempts,
+                                                 @Value("${video-management.retry.initial-delay:1000}") long initialDelayMs,
+                                                 @Value("${video-management.retry.multiplier:2.0}") double multiplier,
+                                                 @Value("${video-management.retry.max-delay:30000}") long maxDelayMs) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(0, attempts - 1));
+        backOff.setInitialInterval(initialDelayMs);
+        backOff.setMultiplier(multiplier);
+        backOff.setMaxInterval(maxDelayMs);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer, backOff);
+        errorHandler.addNotRetryableExceptions(JacksonException.class, InvalidMessageException.class);
+        return errorHandler;
+    }
+
+    /**
+     * Reuses the Boot-configured consumer factory so {@code spring.kafka.*} settings still apply.
+     * Boot only hands the container customizer to its own factory, so it is applied here too.
+     */
+    private static ConcurrentKafkaListenerContainerFactory<Object, Object> batchFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            ObjectProvider<ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>>> containerCustomizer) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        configurer.configure(factory, kafkaConsumerFactory);
+        containerCustomizer.ifUnique(factory::setContainerCustomizer);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
         return factory;
     }
 }
-*/
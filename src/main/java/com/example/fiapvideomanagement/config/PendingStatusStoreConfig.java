@@ -0,0 +1,95 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.adapters.outbound.local.TimingWheelPendingStatusStore;
+import com.example.fiapvideomanagement.adapters.outbound.redis.RedisPendingStatusAdapter;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Opt-in in-process pending store. Only safe when {@code video-data} and {@code video-status}
+ * are co-partitioned (same partition count and key), so that a video's status and data land
+ * on the same instance; anything that outlives the window or crosses a rebalance goes to Redis.
+ */
+@Configuration
+@ConditionalOnProperty(name = "video-management.pending.local.enabled", havingValue = "true")
+public class PendingStatusStoreConfig {
+
+    @Value("${video-management.pending.local.window:5s}")
+    private Duration window;
+
+    @Value("${video-management.pending.local.tick:100ms}")
+    private Duration tick;
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public TimingWheelPendingStatusStore timingWheelPendingStatusStore(RedisPendingStatusAdapter redisPendingStatusAdapter) {
+        return new TimingWheelPendingStatusStore(redisPendingStatusAdapter, window, tick);
+    }
+
+    /**
+     * Applied by Boot to its default factory and by {@link KafkaConsumerConfig} to the batch
+     * ones. Wraps whatever rebalance listener the factory already set instead of replacing it.
+     */
+    @Bean
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> spillPendingStatusesOnRevoke(
+            TimingWheelPendingStatusStore store) {
+        return container -> {
+            ContainerProperties properties = container.getContainerProperties();
+            properties.setConsumerRebalanceListener(spillingOnRevoke(store, properties.getConsumerRebalanceListener()));
+        };
+    }
+
+    private static ConsumerAwareRebalanceListener spillingOnRevoke(TimingWheelPendingStatusStore store,
+                                                                   ConsumerRebalanceListener delegate) {
+        return new ConsumerAwareRebalanceListener() {
+            @Override
+            public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (!partitions.isEmpty()) store.spillAll();
+                if (delegate instanceof ConsumerAwareRebalanceListener aware) {
+                    aware.onPartitionsRevokedBeforeCommit(consumer, partitions);
+                } else if (delegate != null) {
+                    delegate.onPartitionsRevoked(partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (delegate instanceof ConsumerAwareRebalanceListener aware) {
+                    aware.onPartitionsRevokedAfterCommit(consumer, partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (!partitions.isEmpty()) store.spillAll();
+                if (delegate instanceof ConsumerAwareRebalanceListener aware) {
+                    aware.onPartitionsLost(consumer, partitions);
+                } else if (delegate != null) {
+                    delegate.onPartitionsLost(partitions);
+                }
+            }
+
+            @Override
+            public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+                if (delegate instanceof ConsumerAwareRebalanceListener aware) {
+                    aware.onPartitionsAssigned(consumer, partitions);
+                } else if (delegate != null) {
+                    delegate.onPartitionsAssigned(partitions);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.fiapvideomanagement.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Wraps every bean implementing one of the given outbound ports so each port method gets a
+ * {@code video.port.latency} histogram and feeds the {@link SlowOperationLog}. Class-based
+ * proxies keep injection by concrete adapter type working; the registry and the log are
+ * looked up once, on first call, so this post-processor does not pull them in early.
+ */
+public class PortLatencyBeanPostProcessor implements BeanPostProcessor {
+
+    private final List<Class<?>> ports;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Supplier<SlowOperationLog> slowOperationLog;
+
+    public PortLatencyBeanPostProcessor(List<Class<?>> ports,
+                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                        ObjectProvider<SlowOperationLog> slowOperationLog) {
+        this.ports = ports;
+        this.meterRegistry = SingletonSupplier.of(meterRegistry::getObject);
+        this.slowOperationLog = SingletonSupplier.of(slowOperationLog::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        for (Class<?> port : ports) {
+            if (port.isAssignableFrom(targetClass)) return instrument(bean, targetClass, port);
+        }
+        return bean;
+    }
+
+    private Object instrument(Object bean, Class<?> targetClass, Class<?> port) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new PortMethodPointcut(port),
+                new LatencyInterceptor(port.getSimpleName(), targetClass.getSimpleName()));
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvisor(0, advisor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        // Anonymous and final implementations (test doubles mostly) cannot be subclassed.
+        proxyFactory.setProxyTargetClass(!targetClass.isAnonymousClass() && !Modifier.isFinal(targetClass.getModifiers()));
+        if (!proxyFactory.isProxyTargetClass()) proxyFactory.addInterface(port);
+        proxyFactory.addAdvisor(advisor);
+        return proxyFactory.getProxy(ClassUtils.getDefaultClassLoader());
+    }
+
+    private static final class PortMethodPointcut extends StaticMethodMatcherPointcut {
+        private final Class<?> port;
+
+        private PortMethodPointcut(Class<?> port) {
+            this.port = port;
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes());
+        }
+    }
+
+    private final class LatencyInterceptor implements MethodInterceptor {
+        private final String port;
+        private final String adapter;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        private LatencyInterceptor(String port, String adapter) {
+            this.port = port;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                String method = invocation.getMethod().getName();
+                timer(method).record(elapsed, TimeUnit.NANOSECONDS);
+                slowOperationLog.get().offer(port, method, elapsed, invocation.getArguments());
+            }
+        }
+
+        private Timer timer(String method) {
+            return timers.computeIfAbsent(method, m -> Timer.builder("video.port.latency")
+                    .description("Latency of outbound port calls")
+                    .tag("port", port)
+                    .tag("adapter", adapter)
+                    .tag("method", m)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry.get()));
+        }
+    }
+}
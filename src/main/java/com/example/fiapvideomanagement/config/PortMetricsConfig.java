@@ -0,0 +1,28 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "video-management.port-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class PortMetricsConfig {
+
+    /** Static so the post-processor is registered without instantiating this configuration early. */
+    @Bean
+    public static PortLatencyBeanPostProcessor portLatencyBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                          ObjectProvider<SlowOperationLog> slowOperationLog) {
+        return new PortLatencyBeanPostProcessor(
+                List.of(VideoRepositoryPort.class, PendingStatusStorePort.class,
+                        ReconciliationQueuePort.class, ConsumerOffsetStorePort.class),
+                meterRegistry, slowOperationLog);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.fiapvideomanagement.config;
 
-import org.springframework.cache.annotation.EnableCaching;
+import com.example.fiapvideomanagement.adapters.outbound.redis.VideoStatusMessageRedisSerializer;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -9,7 +10,6 @@ import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
-@EnableCaching
 public class RedisConfig {
 
     @Bean
@@ -20,4 +20,16 @@ public class RedisConfig {
         template.setValueSerializer(new Jackson2JsonRedisSerializer<>(Object.class));
         return template;
     }
+
+    /**
+     * Template for parked statuses, stored with the compact binary codec instead of JSON.
+     */
+    @Bean
+    public RedisTemplate<String, VideoStatusMessage> pendingStatusRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, VideoStatusMessage> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new VideoStatusMessageRedisSerializer());
+        return template;
+    }
 }
@@ -0,0 +1,102 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Last few port calls that took longer than {@code slow-threshold}. Only a sample of them is
+ * kept and arguments are only rendered for those, so the common fast path costs a compare.
+ * Arguments are summarised rather than printed: videos and statuses by id, collections by
+ * size, and e-mail addresses are masked, so the log never holds customer data.
+ */
+@Component
+public class SlowOperationLog {
+
+    private static final int MAX_ARGUMENT_LENGTH = 200;
+    private static final Pattern EMAIL = Pattern.compile("[^\\s@]+@([^\\s@]+)");
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int capacity;
+    private final ArrayDeque<SlowOperation> operations;
+
+    public SlowOperationLog(@Value("${video-management.port-metrics.slow-threshold:100ms}") Duration threshold,
+                            @Value("${video-management.port-metrics.slow-sample-rate:0.1}") double sampleRate,
+                            @Value("${video-management.port-metrics.slow-capacity:100}") int capacity) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.capacity = capacity;
+        this.operations = new ArrayDeque<>(capacity);
+    }
+
+    public void offer(String port, String method, long elapsedNanos, Object[] arguments) {
+        if (elapsedNanos < thresholdNanos) return;
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) return;
+
+        SlowOperation operation = new SlowOperation(Instant.now(), port, method,
+                Duration.ofNanos(elapsedNanos).toMillis(), render(arguments));
+        synchronized (operations) {
+            if (operations.size() == capacity) operations.removeFirst();
+            operations.addLast(operation);
+        }
+    }
+
+    /** Newest first. */
+    public List<SlowOperation> operations() {
+        synchronized (operations) {
+            return List.copyOf(operations.reversed());
+        }
+    }
+
+    public Duration threshold() {
+        return Duration.ofNanos(thresholdNanos);
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+
+    private static List<String> render(Object[] arguments) {
+        if (arguments == null) return List.of();
+        return Arrays.stream(arguments).map(argument -> {
+            String value = summarise(argument);
+            return value.length() > MAX_ARGUMENT_LENGTH ? value.substring(0, MAX_ARGUMENT_LENGTH) + "..." : value;
+        }).toList();
+    }
+
+    private static String summarise(Object argument) {
+        return switch (argument) {
+            case null -> "null";
+            case Video video -> "Video(id=" + video.getId() + ")";
+            case VideoStatusMessage message -> "VideoStatusMessage(videoId=" + message.getVideoId() + ")";
+            case CharSequence text -> EMAIL.matcher(text).replaceAll("***@$1");
+            case UUID id -> id.toString();
+            case Number number -> number.toString();
+            case Boolean flag -> flag.toString();
+            case Enum<?> constant -> constant.name();
+            case Temporal time -> time.toString();
+            case TemporalAmount amount -> amount.toString();
+            case Collection<?> collection -> argument.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+            case Map<?, ?> map -> argument.getClass().getSimpleName() + "(size=" + map.size() + ")";
+            default -> argument.getClass().getSimpleName();
+        };
+    }
+
+    public record SlowOperation(Instant at, String port, String method, long durationMs, List<String> arguments) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.fiapvideomanagement.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/slowoperations}: the sampled slow port calls, newest first. Not exposed over
+ * HTTP unless {@code management.endpoints.web.exposure.include} names it.
+ */
+@Component
+@Endpoint(id = "slowoperations")
+@RequiredArgsConstructor
+public class SlowOperationsEndpoint {
+
+    private final SlowOperationLog slowOperationLog;
+
+    @ReadOperation
+    public Map<String, Object> slowOperations() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMs", slowOperationLog.threshold().toMillis());
+        body.put("sampleRate", slowOperationLog.sampleRate());
+        body.put("operations", slowOperationLog.operations());
+        return body;
+    }
+}
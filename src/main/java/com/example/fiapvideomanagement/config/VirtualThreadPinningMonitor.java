@@ -0,0 +1,70 @@
+package com.example.fiapvideomanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Surfaces virtual threads pinned to their carrier (synchronized blocks or native frames
+ * around blocking JDBC/Redis calls) as metrics, using the JDK's own pinning event.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+    private RecordingStream stream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Counter pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+        Timer pinnedTime = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Time virtual threads spent blocked while pinned")
+                .register(meterRegistry);
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(20)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, event -> {
+            pinned.increment();
+            pinnedTime.record(event.getDuration());
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+        });
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    /** First application frame, skipping the JDK park/pin machinery at the top of the stack. */
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) return "unknown";
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "unknown";
+    }
+}
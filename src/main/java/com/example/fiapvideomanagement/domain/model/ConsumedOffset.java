@@ -0,0 +1,19 @@
+package com.example.fiapvideomanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Position to resume a topic partition from, i.e. one past the last record already written.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class ConsumedOffset {
+    private String topic;
+    private int partition;
+    private long nextOffset;
+}
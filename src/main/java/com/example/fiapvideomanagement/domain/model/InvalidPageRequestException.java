@@ -0,0 +1,11 @@
+package com.example.fiapvideomanagement.domain.model;
+
+/**
+ * A page request the client got wrong: a limit out of range or a cursor that does not decode.
+ */
+public class InvalidPageRequestException extends IllegalArgumentException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.fiapvideomanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A parked status due for a reconciliation attempt; {@code parkedAt} bounds how long it is retried.
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class PendingReconciliation {
+    private UUID videoId;
+    private Instant parkedAt;
+}
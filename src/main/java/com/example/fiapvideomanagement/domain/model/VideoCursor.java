@@ -0,0 +1,40 @@
+package com.example.fiapvideomanagement.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a customer's listing, ordered by (createdAt, id) descending.
+ * Clients only ever see it as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class VideoCursor {
+    private LocalDateTime createdAt;
+    private UUID id;
+
+    public static VideoCursor of(Video video) {
+        return new VideoCursor(video.getCreatedAt(), video.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VideoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new VideoCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.fiapvideomanagement.domain.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class VideoPage {
+    private List<Video> items;
+    private String next;
+}
@@ -1,16 +1,31 @@
 package com.example.fiapvideomanagement.domain.port.in;
 
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoPage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface VideoUseCase {
     List<Video> findByCustomerEmail(String customerEmail);
+    VideoPage findPageByCustomerEmail(String customerEmail, String cursor, int limit);
+    void streamByCustomerEmail(String customerEmail, Consumer<Video> action);
     Optional<Video> findById(UUID id);
     void createVideo(Video video);
     void updateVideoUrl(UUID id, String s3Key);
     void updateVideoStatus(UUID id, String status);
+    boolean updateVideoStatusIfExists(UUID id, String status);
+    Set<UUID> applyStatuses(Map<UUID, String> statuses);
+    Set<UUID> applyOrParkStatuses(Map<UUID, VideoStatusMessage> statuses, Collection<ConsumedOffset> offsets);
     boolean existsById(UUID id);
+    void upsertFromMessage(Video video);
+    void upsertVideos(List<Video> videos);
+    void upsertVideos(List<Video> videos, Collection<ConsumedOffset> offsets);
 }
@@ -0,0 +1,11 @@
+package com.example.fiapvideomanagement.domain.port.out;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ConsumerOffsetStorePort {
+    void saveOffsets(Collection<ConsumedOffset> offsets);
+    List<ConsumedOffset> findOffsets(String topic);
+}
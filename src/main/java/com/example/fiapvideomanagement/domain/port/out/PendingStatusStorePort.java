@@ -2,9 +2,19 @@ package com.example.fiapvideomanagement.domain.port.out;
 
 import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PendingStatusStorePort {
     void savePendingStatus(String videoId, VideoStatusMessage message);
     Optional<VideoStatusMessage> getAndRemovePendingStatus(String videoId);
-}
\ No newline at end of file
+    void savePendingStatuses(Map<String, VideoStatusMessage> messages);
+    Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds);
+
+    /**
+     * Puts back statuses previously taken out with a get-and-remove, except where a newer
+     * status was parked for the same video in the meantime.
+     */
+    void restorePendingStatuses(Map<String, VideoStatusMessage> messages);
+}
@@ -0,0 +1,11 @@
+package com.example.fiapvideomanagement.domain.port.out;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+
+import java.util.List;
+
+public interface ReconciliationQueuePort {
+    void enqueue(PendingReconciliation reconciliation);
+    List<PendingReconciliation> claimDue(int limit);
+    void complete(List<PendingReconciliation> done, List<PendingReconciliation> retry);
+}
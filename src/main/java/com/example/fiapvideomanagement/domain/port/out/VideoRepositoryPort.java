@@ -2,14 +2,26 @@ package com.example.fiapvideomanagement.domain.port.out;
 
 
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface VideoRepositoryPort {
     Video save(Video video);
     Optional<Video> findById(UUID id);
     List<Video> findByCustomerEmail(String customerEmail);
+    List<Video> findByCustomerEmailAfter(String customerEmail, VideoCursor after, int limit);
+    List<UUID> findIdsAfter(UUID after, int limit);
+    void forEachByCustomerEmail(String customerEmail, Consumer<Video> action);
     boolean existsById(UUID id);
+    void upsertFromMessage(Video video);
+    void upsertAll(List<Video> videos);
+    int updateStatus(UUID id, String status, LocalDateTime updatedAt);
+    Set<UUID> updateStatuses(Map<UUID, String> statuses, LocalDateTime updatedAt);
 }
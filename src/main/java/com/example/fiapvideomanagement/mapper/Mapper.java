@@ -40,7 +40,7 @@ public class Mapper {
                 .customerId(video.getCustomerId())
                 .customerEmail(video.getCustomerEmail())
                 .status(video.getStatus())
-                .createdAt(video.getCreatedAt() == null ? video.getCreatedAt() : java.time.LocalDateTime.now())
+                .createdAt(video.getCreatedAt())
                 .updatedAt(video.getUpdatedAt())
                 .build();
     }
@@ -0,0 +1,93 @@
+package com.example.fiapvideomanagement.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One stage of handling a Kafka message (deserialize, status update, park, upsert...), as a
+ * Flight Recorder event. Costs a flag check unless a recording is running. The record being
+ * handled is bound to the thread by the consumer with {@link #bind}, so stages further down
+ * (in {@code VideoService}) carry its topic, partition and offset without new parameters.
+ */
+@Name(MessageStageEvent.NAME)
+@Label("Message Stage")
+@Description("Time spent in one stage of processing a video-data or video-status message")
+@Category({"Video Management", "Messaging"})
+@StackTrace(false)
+@Threshold("0 ms")
+public class MessageStageEvent extends Event {
+
+    public static final String NAME = "com.example.fiapvideomanagement.MessageStage";
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Video Id")
+    private String videoId;
+
+    @Label("Topic")
+    private String topic;
+
+    @Label("Partition")
+    private int partition = -1;
+
+    @Label("Offset")
+    private long offset = -1;
+
+    public static MessageStageEvent start(String stage) {
+        MessageStageEvent event = new MessageStageEvent();
+        if (event.isEnabled()) {
+            event.stage = stage;
+            Binding binding = CURRENT.get();
+            if (binding != null) {
+                event.topic = binding.topic;
+                event.partition = binding.partition;
+                event.offset = binding.offset;
+            }
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(Object videoId) {
+        end();
+        if (shouldCommit()) {
+            this.videoId = videoId == null ? null : videoId.toString();
+            commit();
+        }
+    }
+
+    /** Ties the stages on this thread to a record until the returned binding is closed. */
+    public static Binding bind(String topic, int partition, long offset) {
+        Binding binding = new Binding(topic, partition, offset, CURRENT.get());
+        CURRENT.set(binding);
+        return binding;
+    }
+
+    public static final class Binding implements AutoCloseable {
+        private final String topic;
+        private final int partition;
+        private final long offset;
+        private final Binding previous;
+
+        private Binding(String topic, int partition, long offset, Binding previous) {
+            this.topic = topic;
+            this.partition = partition;
+            this.offset = offset;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.fiapvideomanagement.service;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Safety net for parked statuses the upsert merge did not pick up. Every replica sweeps the
+ * shared queue; each claimed batch costs one pipelined read of the pending store and one
+ * batched UPDATE. Statuses whose video is still missing are parked again and retried until
+ * {@code max-age}.
+ */
+@Component
+@ConditionalOnProperty(name = "video-management.reconciliation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class PendingStatusReconciler {
+
+    private final ReconciliationQueuePort queue;
+    private final PendingStatusStorePort pendingStatusStore;
+    private final VideoUseCase videoUseCase;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration maxAge;
+
+    public PendingStatusReconciler(ReconciliationQueuePort queue,
+                                   PendingStatusStorePort pendingStatusStore,
+                                   VideoUseCase videoUseCase,
+                                   @Value("${video-management.reconciliation.batch-size:200}") int batchSize,
+                                   @Value("${video-management.reconciliation.max-age:10m}") Duration maxAge) {
+        this(queue, pendingStatusStore, videoUseCase, Clock.systemUTC(), batchSize, maxAge);
+    }
+
+    PendingStatusReconciler(ReconciliationQueuePort queue, PendingStatusStorePort pendingStatusStore,
+                            VideoUseCase videoUseCase, Clock clock, int batchSize, Duration maxAge) {
+        this.queue = queue;
+        this.pendingStatusStore = pendingStatusStore;
+        this.videoUseCase = videoUseCase;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAge = maxAge;
+    }
+
+    @Scheduled(fixedDelayString = "${video-management.reconciliation.sweep-interval:5s}")
+    public void sweep() {
+        try {
+            List<PendingReconciliation> claimed;
+            do {
+                claimed = queue.claimDue(batchSize);
+                if (!claimed.isEmpty()) reconcile(claimed);
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            // Claimed entries stay leased and return to the queue when the lease runs out.
+            log.error("Pending status reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    void reconcile(List<PendingReconciliation> claimed) {
+        List<String> ids = claimed.stream().map(r -> r.getVideoId().toString()).distinct().toList();
+        Map<String, VideoStatusMessage> pending = pendingStatusStore.getAndRemovePendingStatuses(ids);
+        if (pending.isEmpty()) {
+            queue.complete(claimed, List.of());
+            return;
+        }
+
+        Map<UUID, String> statuses = new LinkedHashMap<>();
+        pending.forEach((videoId, message) -> statuses.put(UUID.fromString(videoId), message.getVideoStatus()));
+        Set<UUID> applied;
+        try {
+            applied = videoUseCase.applyStatuses(statuses);
+        } catch (RuntimeException e) {
+            // Taken out of the store above; put them back before the lease hands the batch to someone else.
+            pendingStatusStore.restorePendingStatuses(pending);
+            throw e;
+        }
+
+        Instant expiredBefore = clock.instant().minus(maxAge);
+        Map<String, VideoStatusMessage> reparked = new LinkedHashMap<>();
+        List<PendingReconciliation> done = new ArrayList<>();
+        List<PendingReconciliation> retry = new ArrayList<>();
+        for (PendingReconciliation reconciliation : claimed) {
+            String videoId = reconciliation.getVideoId().toString();
+            VideoStatusMessage message = pending.get(videoId);
+            if (message == null || applied.contains(reconciliation.getVideoId())) {
+                done.add(reconciliation);
+            } else if (reconciliation.getParkedAt().isBefore(expiredBefore)) {
+                log.warn("Giving up on status {} for video {}: video never arrived", message.getVideoStatus(), videoId);
+                done.add(reconciliation);
+            } else {
+                reparked.put(videoId, message);
+                retry.add(reconciliation);
+            }
+        }
+        // Restored rather than saved: a status parked since the claim is newer and must stay.
+        if (!reparked.isEmpty()) pendingStatusStore.restorePendingStatuses(reparked);
+        queue.complete(done, retry);
+        log.info("Reconciled {} parked statuses: {} applied, {} retried", claimed.size(), applied.size(), retry.size());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.fiapvideomanagement.service;
+
+import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory Bloom filter of the video ids this instance knows about. A negative answer
+ * means the id was never added here; ids inserted by other pods are not seen, so callers
+ * may only use it to reorder work, never to skip a database check. The one exception is
+ * {@link #canSkipUpdate}, which only answers yes when {@code single-replica} says this
+ * instance writes every video.
+ * <p>
+ * Answers "maybe" for everything until the startup scan of the {@code video} table is done.
+ */
+@Component
+@Slf4j
+public class VideoIdBloomFilter {
+
+    static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final VideoRepositoryPort repository;
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final LongAdder setBits = new LongAdder();
+    private final Counter definiteNegatives;
+    private final Counter falsePositives;
+    private final boolean singleReplica;
+    private volatile boolean loaded;
+
+    public VideoIdBloomFilter(VideoRepositoryPort repository,
+                              MeterRegistry meterRegistry,
+                              @Value("${video-management.bloom.expected-insertions:1000000}") long expectedInsertions,
+                              @Value("${video-management.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                              @Value("${video-management.bloom.single-replica:false}") boolean singleReplica) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid video-management.bloom sizing");
+        }
+        this.repository = repository;
+        this.singleReplica = singleReplica;
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+        Gauge.builder("video.bloom.fill.ratio", this, VideoIdBloomFilter::fillRatio)
+                .description("Fraction of Bloom filter bits that are set")
+                .register(meterRegistry);
+        Gauge.builder("video.bloom.expected.fpp", this, VideoIdBloomFilter::expectedFalsePositiveRate)
+                .description("False-positive probability implied by the current fill ratio")
+                .register(meterRegistry);
+        this.definiteNegatives = Counter.builder("video.bloom.negatives")
+                .description("Lookups answered as definitely unknown to this instance")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("video.bloom.false.positives")
+                .description("Ids reported as maybe present that the database did not have")
+                .register(meterRegistry);
+    }
+
+    public void add(UUID id) {
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int index = (int) (bit >>> 6);
+            long previous = words.getAndAccumulate(index, mask, (current, m) -> current | m);
+            if ((previous & mask) == 0) setBits.increment();
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        if (!loaded) return true;
+        long h1 = mix(id.getMostSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definiteNegatives.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether a status update for this id can go straight to the pending store. With more
+     * than one replica a miss here says nothing about the table, so the answer is always no.
+     */
+    public boolean canSkipUpdate(UUID id) {
+        return singleReplica && !mightContain(id);
+    }
+
+    /** Called when an id this filter reported as maybe present turned out to be missing. */
+    public void recordFalsePositive() {
+        if (loaded) falsePositives.increment();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    double fillRatio() {
+        return setBits.doubleValue() / bitCount;
+    }
+
+    double expectedFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread.ofVirtual().name("video-bloom-loader").start(this::load);
+    }
+
+    /** Keyset scan over the primary key so each page is an index range read. */
+    void load() {
+        try {
+            long count = 0;
+            UUID after = null;
+            List<UUID> page;
+            do {
+                page = repository.findIdsAfter(after, LOAD_PAGE_SIZE);
+                page.forEach(this::add);
+                count += page.size();
+                if (!page.isEmpty()) after = page.get(page.size() - 1);
+            } while (page.size() == LOAD_PAGE_SIZE);
+            loaded = true;
+            log.info("Video id Bloom filter loaded with {} ids ({} bits, {} hashes)", count, bitCount, hashCount);
+        } catch (Exception e) {
+            log.error("Could not load video id Bloom filter, lookups stay on the database: {}", e.getMessage(), e);
+        }
+    }
+
+    /** SplitMix64 finalizer; spreads the UUID halves before double hashing. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
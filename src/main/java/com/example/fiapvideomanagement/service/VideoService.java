@@ -1,50 +1,111 @@
 package com.example.fiapvideomanagement.service;
 
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.model.InvalidPageRequestException;
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
+import com.example.fiapvideomanagement.domain.model.VideoPage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
 import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class VideoService implements VideoUseCase {
 
+    public static final String VIDEO_CACHE = "videos";
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final VideoRepositoryPort repository;
+    private final PendingStatusStorePort pendingStatusStore;
+    private final CacheManager cacheManager;
+    private final VideoIdBloomFilter videoIdFilter;
+    private final ConsumerOffsetStorePort offsetStore;
 
     @Override
     @Transactional(readOnly = true)
     public List<Video> findByCustomerEmail(String customerEmail) {
-        if (customerEmail == null || customerEmail.isBlank()) {
-            throw new IllegalArgumentException("customerEmail is required");
-        }
+        requireCustomerEmail(customerEmail);
         return repository.findByCustomerEmail(customerEmail);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public VideoPage findPageByCustomerEmail(String customerEmail, String cursor, int limit) {
+        requireCustomerEmail(customerEmail);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        VideoCursor after = cursor == null || cursor.isBlank() ? null : VideoCursor.decode(cursor);
+
+        // One extra row tells whether another page exists without a count query.
+        List<Video> rows = repository.findByCustomerEmailAfter(customerEmail, after, limit + 1);
+        if (rows.size() <= limit) {
+            return VideoPage.builder().items(rows).build();
+        }
+        List<Video> items = List.copyOf(rows.subList(0, limit));
+        return VideoPage.builder()
+                .items(items)
+                .next(VideoCursor.of(items.get(limit - 1)).encode())
+                .build();
+    }
+
+    /**
+     * Hands each video to {@code action} as it is read; the transaction keeps the
+     * database cursor, and its pooled connection, open until the last row has been
+     * consumed, so callers bound how long {@code action} may take.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByCustomerEmail(String customerEmail, Consumer<Video> action) {
+        requireCustomerEmail(customerEmail);
+        repository.forEachByCustomerEmail(customerEmail, action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = VIDEO_CACHE, key = "#id", unless = "#result == null")
     public Optional<Video> findById(UUID id) {
         return repository.findById(id);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = VIDEO_CACHE, key = "#video.id")
     public void createVideo(Video video) {
         var now = LocalDateTime.now();
         if (video.getId() == null) video.setId(UUID.randomUUID());
         video.setCreatedAt(now);
         video.setUpdatedAt(now);
         repository.save(video);
+        videoIdFilter.add(video.getId());
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = VIDEO_CACHE, key = "#id")
     public void updateVideoUrl(UUID id, String s3Key) {
         var opt = repository.findById(id);
         var video = opt.orElseThrow(() -> new IllegalArgumentException("Video not found"));
@@ -55,16 +116,143 @@ public class VideoService implements VideoUseCase {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = VIDEO_CACHE, key = "#id")
     public void updateVideoStatus(UUID id, String status) {
-        var opt = repository.findById(id);
-        var video = opt.orElseThrow(() -> new IllegalArgumentException("Video not found"));
-        video.setStatus(status);
-        video.setUpdatedAt(LocalDateTime.now());
-        repository.save(video);
+        if (!updateVideoStatusIfExists(id, status)) {
+            throw new IllegalArgumentException("Video not found");
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = VIDEO_CACHE, key = "#id")
+    public boolean updateVideoStatusIfExists(UUID id, String status) {
+        MessageStageEvent stage = MessageStageEvent.start("db-status-update");
+        boolean updated = repository.updateStatus(id, status, LocalDateTime.now()) > 0;
+        stage.finish(id);
+        return updated;
+    }
+
+    /**
+     * Bulk form of {@link #updateVideoStatusIfExists}: one batched UPDATE, returning the ids
+     * whose video existed.
+     */
+    @Override
+    @Transactional
+    public Set<UUID> applyStatuses(Map<UUID, String> statuses) {
+        if (statuses.isEmpty()) return Set.of();
+        Set<UUID> applied = repository.updateStatuses(statuses, LocalDateTime.now());
+        evictCached(List.copyOf(applied));
+        return applied;
+    }
+
+    /**
+     * Applies what it can and parks the rest, then records the consumer offsets in the same
+     * transaction. Parking happens before the commit: if it fails the batch is retried and
+     * parked again, which only overwrites the same values. Returns the ids that were parked.
+     */
+    @Override
+    @Transactional
+    public Set<UUID> applyOrParkStatuses(Map<UUID, VideoStatusMessage> statuses, Collection<ConsumedOffset> offsets) {
+        Map<UUID, String> values = new LinkedHashMap<>();
+        statuses.forEach((videoId, message) -> values.put(videoId, message.getVideoStatus()));
+        Set<UUID> applied = values.isEmpty() ? Set.of() : repository.updateStatuses(values, LocalDateTime.now());
+
+        Map<String, VideoStatusMessage> parked = new LinkedHashMap<>();
+        statuses.forEach((videoId, message) -> {
+            if (!applied.contains(videoId)) parked.put(videoId.toString(), message);
+        });
+        if (!parked.isEmpty()) pendingStatusStore.savePendingStatuses(parked);
+        offsetStore.saveOffsets(offsets);
+        evictCached(List.copyOf(applied));
+        return statuses.keySet().stream().filter(videoId -> !applied.contains(videoId)).collect(Collectors.toSet());
     }
 
     @Override
     public boolean existsById(UUID id) {
         return repository.existsById(id);
     }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = VIDEO_CACHE, key = "#video.id")
+    public void upsertFromMessage(Video video) {
+        var now = LocalDateTime.now();
+        video.setCreatedAt(now);
+        video.setUpdatedAt(now);
+        mergePendingStatus(video);
+        MessageStageEvent stage = MessageStageEvent.start("db-upsert");
+        repository.upsertFromMessage(video);
+        stage.finish(video.getId());
+        videoIdFilter.add(video.getId());
+    }
+
+    @Override
+    @Transactional
+    public void upsertVideos(List<Video> videos) {
+        if (videos.isEmpty()) return;
+        var now = LocalDateTime.now();
+        // One pipelined round trip for the whole batch instead of a GETDEL per video.
+        var pending = pendingStatusStore.getAndRemovePendingStatuses(
+                videos.stream().map(video -> video.getId().toString()).toList());
+        videos.forEach(video -> {
+            video.setCreatedAt(now);
+            video.setUpdatedAt(now);
+            var parked = pending.get(video.getId().toString());
+            if (parked != null) video.setStatus(parked.getVideoStatus());
+        });
+        restorePendingOnRollback(pending);
+        repository.upsertAll(videos);
+        videos.forEach(video -> videoIdFilter.add(video.getId()));
+        evictCached(videos.stream().map(Video::getId).toList());
+    }
+
+    /** Same as {@link #upsertVideos(List)}, with the consumer offsets committed alongside the rows. */
+    @Override
+    @Transactional
+    public void upsertVideos(List<Video> videos, Collection<ConsumedOffset> offsets) {
+        upsertVideos(videos);
+        offsetStore.saveOffsets(offsets);
+    }
+
+    /**
+     * The merged statuses were taken out of the store before the rows commit; if the
+     * transaction rolls back they go back, so a retried batch can merge them again.
+     */
+    private void restorePendingOnRollback(Map<String, VideoStatusMessage> pending) {
+        if (pending.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) pendingStatusStore.restorePendingStatuses(pending);
+            }
+        });
+    }
+
+    private static void requireCustomerEmail(String customerEmail) {
+        if (customerEmail == null || customerEmail.isBlank()) {
+            throw new IllegalArgumentException("customerEmail is required");
+        }
+    }
+
+    /**
+     * A status that arrived before its video was parked in the pending store; it is
+     * written together with the row instead of in a follow-up transaction, and put back
+     * if that transaction rolls back.
+     */
+    private void mergePendingStatus(Video video) {
+        MessageStageEvent stage = MessageStageEvent.start("pending-merge");
+        String key = video.getId().toString();
+        pendingStatusStore.getAndRemovePendingStatus(key).ifPresent(pending -> {
+            video.setStatus(pending.getVideoStatus());
+            restorePendingOnRollback(Map.of(key, pending));
+        });
+        stage.finish(video.getId());
+    }
+
+    private void evictCached(List<UUID> ids) {
+        Cache cache = cacheManager.getCache(VIDEO_CACHE);
+        if (cache == null) return;
+        ids.forEach(cache::evict);
+    }
 }
@@ -0,0 +1,4 @@
+UPDATE video SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_video_customer_email_created_at_id
+    ON video (customer_email, created_at DESC, id DESC);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS consumer_offset (
+    topic        VARCHAR(255) NOT NULL,
+    partition_id INTEGER      NOT NULL,
+    next_offset  BIGINT       NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (topic, partition_id)
+);
@@ -0,0 +1,119 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer statusContainer;
+
+    @Mock
+    private MessageListenerContainer idleContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsumerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new ConsumerBackpressureController(registry, meterRegistry,
+                Duration.ofMillis(500), Duration.ofMillis(100), 3);
+        lenient().when(registry.getListenerContainers()).thenReturn(List.of(statusContainer, idleContainer));
+        lenient().when(statusContainer.getContainerProperties()).thenReturn(new ContainerProperties("video-status"));
+    }
+
+    @Test
+    void evaluate_WhenThreadsWaitAndConnectionsAreHeldTooLong_ShouldPauseRunningContainersOnly() {
+        // Arrange
+        when(statusContainer.isRunning()).thenReturn(true);
+        when(idleContainer.isRunning()).thenReturn(false);
+
+        // Act
+        controller.evaluate(4, 800);
+
+        // Assert
+        assertTrue(controller.isPaused());
+        verify(statusContainer).pause();
+        verify(idleContainer, never()).pause();
+        assertEquals(1.0, meterRegistry.get("video.consumer.paused").tag("topic", "video-status").gauge().value());
+    }
+
+    @Test
+    void evaluate_UnderHighWatermark_ShouldKeepConsuming() {
+        // Act
+        controller.evaluate(4, 300);
+
+        // Assert
+        assertFalse(controller.isPaused());
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void evaluate_WhenLongMeanButNobodyWaiting_ShouldKeepConsuming() {
+        // Act - e.g. one NDJSON export held its connection for the whole check window
+        controller.evaluate(0, 60_000);
+
+        // Assert
+        assertFalse(controller.isPaused());
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void check_ShouldReadPendingThreadsFromHikariGauge() {
+        // Arrange
+        when(statusContainer.isRunning()).thenReturn(true);
+        Gauge.builder("hikaricp.connections.pending", () -> 3).register(meterRegistry);
+        Timer usage = meterRegistry.timer("hikaricp.connections.usage");
+        usage.record(Duration.ofMillis(800));
+
+        // Act
+        controller.check();
+
+        // Assert
+        assertTrue(controller.isPaused());
+    }
+
+    @Test
+    void evaluate_ShouldResumeOnlyAfterConsecutiveHealthyChecks() {
+        // Arrange
+        when(statusContainer.isRunning()).thenReturn(true);
+        when(statusContainer.isPauseRequested()).thenReturn(true);
+        controller.evaluate(4, 900);
+
+        // Act
+        controller.evaluate(0, 50);
+        controller.evaluate(0, 50);
+        controller.evaluate(0, 300); // between watermarks: resets the streak
+        controller.evaluate(0, 50);
+        controller.evaluate(0, 50);
+        boolean pausedBeforeThirdHealthyCheck = controller.isPaused();
+        controller.evaluate(0, 50);
+
+        // Assert
+        assertTrue(pausedBeforeThirdHealthyCheck);
+        assertFalse(controller.isPaused());
+        verify(statusContainer).resume();
+        assertEquals(1, meterRegistry.get("video.consumer.paused.time").tag("topic", "video-status").timer().count());
+        assertEquals(0.0, meterRegistry.get("video.consumer.paused").tag("topic", "video-status").gauge().value());
+    }
+}
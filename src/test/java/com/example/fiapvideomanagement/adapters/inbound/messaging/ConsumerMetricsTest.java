@@ -0,0 +1,169 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerMetricsTest {
+
+    private static final TopicPartition STATUS_0 = new TopicPartition("video-status", 0);
+    private static final TopicPartition STATUS_1 = new TopicPartition("video-status", 1);
+
+    @Mock
+    private Consumer<Object, Object> consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsumerMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ConsumerMetrics(meterRegistry);
+    }
+
+    @Test
+    void batch_ShouldCountRecordsAndTimeTheWholePoll() {
+        // Arrange
+        ConsumerRecords<Object, Object> records = new ConsumerRecords<>(Map.of(STATUS_0, List.of(
+                record(0, System.currentTimeMillis() - 1_000),
+                record(1, System.currentTimeMillis() - 2_000))));
+        when(consumer.assignment()).thenReturn(Set.of(STATUS_0));
+        when(consumer.currentLag(STATUS_0)).thenReturn(OptionalLong.of(7));
+
+        // Act
+        metrics.intercept(records, consumer);
+        metrics.success(records, consumer);
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("video.consumer.records").tag("topic", "video-status").counter().count());
+        var endToEnd = meterRegistry.get("video.consumer.e2e.latency").tag("topic", "video-status").timer();
+        assertEquals(2, endToEnd.count());
+        assertTrue(endToEnd.max(TimeUnit.MILLISECONDS) >= 2_000);
+        assertEquals(1, meterRegistry.get("video.consumer.processing").tag("topic", "video-status").timer().count());
+        assertEquals(7.0, meterRegistry.get("video.consumer.lag")
+                .tags("topic", "video-status", "partition", "0").gauge().value());
+    }
+
+    @Test
+    void record_ShouldBeMeasuredAfterTheListenerRan() {
+        // Arrange
+        ConsumerRecord<Object, Object> record = record(3, System.currentTimeMillis());
+        when(consumer.assignment()).thenReturn(Set.of(STATUS_0, STATUS_1));
+        when(consumer.currentLag(STATUS_0)).thenReturn(OptionalLong.of(0));
+        when(consumer.currentLag(STATUS_1)).thenReturn(OptionalLong.empty());
+
+        // Act
+        metrics.intercept(record, consumer);
+        metrics.afterRecord(record, consumer);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("video.consumer.processing").tag("topic", "video-status").timer().count());
+        assertEquals(0.0, meterRegistry.get("video.consumer.lag").tags("partition", "0").gauge().value());
+        assertNull(meterRegistry.find("video.consumer.lag").tags("partition", "1").gauge());
+    }
+
+    @Test
+    void recordFailure_ShouldBeCountedPerRetryTier() {
+        // Arrange
+        ConsumerRecord<Object, Object> retried = new ConsumerRecord<>("video-data.retry-1", 0, 5, "key", "value");
+        when(consumer.assignment()).thenReturn(Set.of());
+
+        // Act
+        metrics.intercept(retried, consumer);
+        metrics.failure(retried, new IllegalStateException("db down"), consumer);
+        metrics.afterRecord(retried, consumer);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("video.consumer.failures").tag("topic", "video-data.retry-1").counter().count());
+        assertEquals(1.0, meterRegistry.get("video.consumer.records").tag("topic", "video-data.retry-1").counter().count());
+    }
+
+    @Test
+    void onIdle_ShouldRefreshLagWithoutDeliveries() {
+        // Arrange
+        when(consumer.assignment()).thenReturn(Set.of(STATUS_0));
+        when(consumer.currentLag(STATUS_0)).thenReturn(OptionalLong.of(42));
+
+        // Act
+        metrics.onIdle(idleEvent(consumer));
+
+        // Assert
+        assertEquals(42.0, meterRegistry.get("video.consumer.lag").tags("partition", "0").gauge().value());
+    }
+
+    @Test
+    void updateLag_WhenPartitionRevoked_ShouldRemoveItsGauge() {
+        // Arrange
+        when(consumer.assignment()).thenReturn(Set.of(STATUS_0, STATUS_1), Set.of(STATUS_1));
+        when(consumer.currentLag(any(TopicPartition.class))).thenReturn(OptionalLong.of(5));
+        metrics.onIdle(idleEvent(consumer));
+
+        // Act
+        metrics.onIdle(idleEvent(consumer));
+
+        // Assert
+        assertNull(meterRegistry.find("video.consumer.lag").tags("partition", "0").gauge());
+        assertEquals(5.0, meterRegistry.get("video.consumer.lag").tags("partition", "1").gauge().value());
+    }
+
+    @Test
+    void updateLag_ShouldKeepPartitionTakenOverByAnotherConsumer() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        Consumer<Object, Object> other = mock(Consumer.class);
+        when(consumer.assignment()).thenReturn(Set.of(STATUS_0), Set.of());
+        when(consumer.currentLag(STATUS_0)).thenReturn(OptionalLong.of(5));
+        when(other.assignment()).thenReturn(Set.of(STATUS_0));
+        when(other.currentLag(STATUS_0)).thenReturn(OptionalLong.of(9));
+        metrics.onIdle(idleEvent(consumer));
+        metrics.onIdle(idleEvent(other));
+
+        // Act
+        metrics.onIdle(idleEvent(consumer));
+
+        // Assert
+        assertEquals(9.0, meterRegistry.get("video.consumer.lag").tags("partition", "0").gauge().value());
+    }
+
+    @Test
+    void recordParked_ShouldCountParkedStatuses() {
+        // Act
+        metrics.recordParked(3);
+        metrics.recordParked(0);
+
+        // Assert
+        assertEquals(3.0, meterRegistry.get("video.status.parked").counter().count());
+    }
+
+    private static ListenerContainerIdleEvent idleEvent(Consumer<?, ?> consumer) {
+        return new ListenerContainerIdleEvent(new Object(), new Object(), 10_000, "listener",
+                List.of(), consumer, false);
+    }
+
+    private static ConsumerRecord<Object, Object> record(long offset, long timestamp) {
+        return new ConsumerRecord<>("video-status", 0, offset, timestamp, TimestampType.CREATE_TIME,
+                0, 0, "key", "value", new RecordHeaders(), Optional.empty());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyOrderedExecutorTest {
+
+    private final KeyOrderedExecutor executor = new KeyOrderedExecutor(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void submit_ShouldRunTasksForSameKeyInSubmissionOrder() {
+        // Arrange
+        UUID key = UUID.randomUUID();
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            int sequence = i;
+            futures.add(executor.submit(key, () -> executed.add(sequence)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, executed.get(i));
+        }
+    }
+
+    @Test
+    void submit_ShouldNotBlockOtherKeysBehindASlowKey() throws Exception {
+        // Arrange
+        UUID slowKey = new UUID(0, 0);
+        UUID otherKey = new UUID(0, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slow = executor.submit(slowKey, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Act
+        CompletableFuture<Void> other = executor.submit(otherKey, () -> { });
+
+        // Assert
+        other.get(5, TimeUnit.SECONDS);
+        assertFalse(slow.isDone());
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void constructor_WithNonPositiveLaneCount_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyOrderedExecutor(0));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.VideoMessage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageDecoderTest {
+
+    private final MessageDecoder decoder = new MessageDecoder(new ObjectMapper());
+
+    @Test
+    void readVideoMessage_ShouldParseUtf8Payload() throws Exception {
+        // Arrange
+        String videoId = UUID.randomUUID().toString();
+        byte[] payload = ("{\"videoId\":\"" + videoId + "\",\"s3Key\":\"s3://bucket/v\u00eddeo.mp4\","
+                + "\"originalName\":\"v\u00eddeo.mp4\",\"customerId\":7,\"customerEmail\":\"a@example.com\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        VideoMessage message = decoder.readVideoMessage(payload);
+
+        // Assert
+        assertEquals(videoId, message.getVideoId());
+        assertEquals("v\u00eddeo.mp4", message.getOriginalName());
+        assertEquals(7L, message.getCustomerId());
+    }
+
+    @Test
+    void readVideoStatusMessage_ShouldParsePayload() throws Exception {
+        // Arrange
+        UUID videoId = UUID.randomUUID();
+        byte[] payload = ("{\"videoId\":\"" + videoId + "\",\"videoStatus\":\"PROCESSED\"}").getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        VideoStatusMessage message = decoder.readVideoStatusMessage(payload);
+
+        // Assert
+        assertEquals(videoId, message.getVideoId());
+        assertEquals("PROCESSED", message.getVideoStatus());
+    }
+
+    @Test
+    void read_WhenPayloadIsTombstone_ShouldRejectAsInvalid() {
+        // Act & Assert
+        assertThrows(InvalidMessageException.class, () -> decoder.readVideoMessage(null));
+        assertThrows(InvalidMessageException.class, () -> decoder.readVideoStatusMessage(new byte[0]));
+        assertThrows(InvalidMessageException.class,
+                () -> decoder.readVideoStatusMessage("null".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readVideoMessage_WhenVideoIdIsNotUuid_ShouldRejectAsInvalid() {
+        // Arrange
+        byte[] payload = "{\"videoId\":\"not-a-uuid\",\"s3Key\":\"s3://bucket/v.mp4\"}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(InvalidMessageException.class, () -> decoder.readVideoMessage(payload));
+    }
+
+    @Test
+    void readVideoStatusMessage_WithoutVideoId_ShouldRejectAsInvalid() {
+        // Arrange
+        byte[] payload = "{\"videoStatus\":\"DONE\"}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(InvalidMessageException.class, () -> decoder.readVideoStatusMessage(payload));
+    }
+
+    @Test
+    void readVideoStatusMessage_WhenPayloadIsNotJson_ShouldThrow() {
+        // Arrange
+        byte[] payload = "not-json".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThrows(JacksonException.class, () -> decoder.readVideoStatusMessage(payload));
+    }
+}
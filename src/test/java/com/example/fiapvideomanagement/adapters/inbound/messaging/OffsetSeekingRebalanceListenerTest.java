@@ -0,0 +1,108 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OffsetSeekingRebalanceListenerTest {
+
+    @Mock
+    private ConsumerOffsetStorePort offsetStore;
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    @InjectMocks
+    private OffsetSeekingRebalanceListener listener;
+
+    @Test
+    void onPartitionsAssigned_ShouldSeekStoredPartitionsOnly() {
+        // Arrange
+        TopicPartition stored = new TopicPartition("video-data", 0);
+        TopicPartition fresh = new TopicPartition("video-data", 1);
+        when(offsetStore.findOffsets("video-data")).thenReturn(List.of(new ConsumedOffset("video-data", 0, 42L)));
+        when(consumer.committed(Set.of(stored))).thenReturn(Map.of(stored, new OffsetAndMetadata(40L)));
+
+        // Act
+        listener.onPartitionsAssigned(consumer, List.of(stored, fresh));
+
+        // Assert
+        verify(consumer).seek(stored, 42L);
+        verify(consumer, never()).seek(eq(fresh), anyLong());
+    }
+
+    @Test
+    void onPartitionsAssigned_WhenKafkaHasNoCommittedOffset_ShouldSeekStoredOffset() {
+        // Arrange
+        TopicPartition partition = new TopicPartition("video-status", 0);
+        when(offsetStore.findOffsets("video-status")).thenReturn(List.of(new ConsumedOffset("video-status", 0, 7L)));
+        when(consumer.committed(Set.of(partition))).thenReturn(new HashMap<>());
+
+        // Act
+        listener.onPartitionsAssigned(consumer, List.of(partition));
+
+        // Assert
+        verify(consumer).seek(partition, 7L);
+    }
+
+    @Test
+    void onPartitionsAssigned_WhenKafkaIsAheadOfStoredOffset_ShouldNotRewind() {
+        // Arrange - a stale row from another mode, or a batch recovered through the dead-letter topic
+        TopicPartition partition = new TopicPartition("video-status", 0);
+        when(offsetStore.findOffsets("video-status")).thenReturn(List.of(new ConsumedOffset("video-status", 0, 7L)));
+        when(consumer.committed(Set.of(partition))).thenReturn(Map.of(partition, new OffsetAndMetadata(120L)));
+
+        // Act
+        listener.onPartitionsAssigned(consumer, List.of(partition));
+
+        // Assert
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+    }
+
+    @Test
+    void onPartitionsAssigned_ShouldLoadEachTopicOnce() {
+        // Arrange
+        when(offsetStore.findOffsets(any())).thenReturn(List.of());
+
+        // Act
+        listener.onPartitionsAssigned(consumer, List.of(
+                new TopicPartition("video-data", 0),
+                new TopicPartition("video-data", 1),
+                new TopicPartition("video-status", 0)));
+
+        // Assert
+        verify(offsetStore).findOffsets("video-data");
+        verify(offsetStore).findOffsets("video-status");
+        verifyNoInteractions(consumer);
+    }
+
+    @Test
+    void onPartitionsAssigned_WhenStoreFails_ShouldFallBackToCommittedOffsets() {
+        // Arrange
+        when(offsetStore.findOffsets("video-data")).thenThrow(new RuntimeException("db down"));
+
+        // Act
+        listener.onPartitionsAssigned(consumer, List.of(new TopicPartition("video-data", 0)));
+
+        // Assert
+        verifyNoInteractions(consumer);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusUpdateCoalescerTest {
+
+    @Mock
+    private VideoUseCase videoUseCase;
+
+    @Mock
+    private PendingStatusStorePort pendingStatusStore;
+
+    @Mock
+    private ReconciliationQueuePort reconciliationQueue;
+
+    @Mock
+    private ConsumerMetrics consumerMetrics;
+
+    private StatusUpdateCoalescer coalescer;
+    private UUID videoId;
+    private UUID otherId;
+
+    @BeforeEach
+    void setUp() {
+        // A window long enough that the ticker never fires; the tests flush by hand.
+        coalescer = new StatusUpdateCoalescer(
+                new StatusBatchWriter(videoUseCase, pendingStatusStore, reconciliationQueue, consumerMetrics), Duration.ofHours(1));
+        videoId = UUID.randomUUID();
+        otherId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void flush_ShouldWriteOnlyLatestStatusPerVideoInOneBatch() {
+        // Arrange
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of(videoId, otherId));
+        CompletableFuture<Void> first = coalescer.submit(status(videoId, "PROCESSING"));
+        CompletableFuture<Void> second = coalescer.submit(status(videoId, "DONE"));
+        CompletableFuture<Void> other = coalescer.submit(status(otherId, "PROCESSED"));
+
+        // Act
+        boolean doneBeforeFlush = first.isDone();
+        coalescer.flush();
+
+        // Assert
+        assertFalse(doneBeforeFlush);
+        assertSame(first, second);
+        assertTrue(first.isDone() && !first.isCompletedExceptionally());
+        assertTrue(other.isDone());
+        verify(videoUseCase).applyStatuses(Map.of(videoId, "DONE", otherId, "PROCESSED"));
+        verifyNoInteractions(pendingStatusStore, reconciliationQueue, consumerMetrics);
+    }
+
+    @Test
+    void flush_WhenVideoMissing_ShouldParkRecheckAndQueueReconciliation() {
+        // Arrange
+        VideoStatusMessage missing = status(otherId, "PROCESSED");
+        when(videoUseCase.applyStatuses(Map.of(videoId, "DONE", otherId, "PROCESSED"))).thenReturn(Set.of(videoId));
+        when(videoUseCase.applyStatuses(Map.of(otherId, "PROCESSED"))).thenReturn(Set.of());
+        coalescer.submit(status(videoId, "DONE"));
+        CompletableFuture<Void> parked = coalescer.submit(missing);
+
+        // Act
+        coalescer.flush();
+
+        // Assert
+        assertTrue(parked.isDone() && !parked.isCompletedExceptionally());
+        verify(pendingStatusStore).savePendingStatuses(Map.of(otherId.toString(), missing));
+        verify(consumerMetrics).recordParked(1);
+        verify(pendingStatusStore, never()).getAndRemovePendingStatuses(any());
+        ArgumentCaptor<PendingReconciliation> captor = ArgumentCaptor.forClass(PendingReconciliation.class);
+        verify(reconciliationQueue).enqueue(captor.capture());
+        assertEquals(otherId, captor.getValue().getVideoId());
+    }
+
+    @Test
+    void flush_WhenVideoInsertedWhileParking_ShouldApplyAndClearPendingStatus() {
+        // Arrange
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of(), Set.of(videoId));
+        coalescer.submit(status(videoId, "DONE"));
+
+        // Act
+        coalescer.flush();
+
+        // Assert
+        verify(pendingStatusStore).getAndRemovePendingStatuses(List.of(videoId.toString()));
+        verifyNoInteractions(reconciliationQueue);
+    }
+
+    @Test
+    void flush_WhenDatabaseFails_ShouldFailEveryWaiter() {
+        // Arrange
+        when(videoUseCase.applyStatuses(anyMap())).thenThrow(new RuntimeException("db down"));
+        CompletableFuture<Void> first = coalescer.submit(status(videoId, "DONE"));
+        CompletableFuture<Void> other = coalescer.submit(status(otherId, "DONE"));
+
+        // Act
+        coalescer.flush();
+
+        // Assert
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(other.isCompletedExceptionally());
+    }
+
+    @Test
+    void submit_AfterFlush_ShouldStartNewWindow() {
+        // Arrange
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of(videoId));
+        CompletableFuture<Void> first = coalescer.submit(status(videoId, "PROCESSING"));
+        coalescer.flush();
+
+        // Act
+        CompletableFuture<Void> next = coalescer.submit(status(videoId, "DONE"));
+
+        // Assert
+        assertNotSame(first, next);
+        assertFalse(next.isDone());
+    }
+
+    @Test
+    void shutdown_ShouldFlushWhatIsLeftInTheWindow() {
+        // Arrange
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of(videoId));
+        CompletableFuture<Void> pending = coalescer.submit(status(videoId, "DONE"));
+
+        // Act
+        coalescer.shutdown();
+
+        // Assert
+        assertTrue(pending.isDone());
+        assertFalse(pending.isCompletedExceptionally());
+        verify(videoUseCase).applyStatuses(Map.of(videoId, "DONE"));
+    }
+
+    @Test
+    void submit_AfterShutdown_ShouldFailInsteadOfWaitingForever() {
+        // Arrange
+        coalescer.submit(status(videoId, "PROCESSING"));
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of(videoId));
+        coalescer.shutdown();
+
+        // Act
+        CompletableFuture<Void> late = coalescer.submit(status(videoId, "DONE"));
+
+        // Assert
+        assertTrue(late.isCompletedExceptionally());
+        verify(videoUseCase, times(1)).applyStatuses(anyMap());
+    }
+
+    private static VideoStatusMessage status(UUID videoId, String status) {
+        return VideoStatusMessage.builder().videoId(videoId).videoStatus(status).build();
+    }
+}
@@ -1,25 +1,40 @@
 package com.example.fiapvideomanagement.adapters.inbound.messaging;
 
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
 import com.example.fiapvideomanagement.domain.model.Video;
 import com.example.fiapvideomanagement.domain.model.VideoMessage;
 import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
 import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
 import com.example.fiapvideomanagement.mapper.Mapper;
+import com.example.fiapvideomanagement.service.VideoIdBloomFilter;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -27,7 +42,7 @@ import static org.mockito.Mockito.*;
 class VideoManagementConsumerTest {
 
     @Mock
-    private ObjectMapper objectMapper;
+    private MessageDecoder messageDecoder;
 
     @Mock
     private VideoUseCase videoUseCase;
@@ -36,25 +51,40 @@ class VideoManagementConsumerTest {
     private PendingStatusStorePort pendingStatusStorePort;
 
     @Mock
-    private ScheduledExecutorService scheduler;
+    private VideoIdBloomFilter videoIdFilter;
+
+    @Mock
+    private ReconciliationQueuePort reconciliationQueue;
+
+    @Mock
+    private StatusUpdateCoalescer statusUpdateCoalescer;
+
+    @Mock
+    private WriteBehindBuffer writeBehindBuffer;
+
+    @Mock
+    private StatusBatchWriter statusBatchWriter;
+
+    @Mock
+    private ConsumerMetrics consumerMetrics;
+
+    @Mock
+    private DeadLetterPublishingRecoverer deadLetterRecoverer;
 
     @InjectMocks
     private VideoManagementConsumer consumer;
 
-    @Captor
-    private ArgumentCaptor<Runnable> runnableCaptor;
-
     private UUID videoId;
     private VideoMessage videoMessage;
     private VideoStatusMessage videoStatusMessage;
     private Video video;
-    private ConsumerRecord<String, String> videoRecord;
-    private ConsumerRecord<String, String> statusRecord;
+    private ConsumerRecord<String, byte[]> videoRecord;
+    private ConsumerRecord<String, byte[]> statusRecord;
     private String videoMessageJson;
     private String statusMessageJson;
 
     @BeforeEach
-    void setUp() throws JsonProcessingException {
+    void setUp() throws IOException {
         videoId = UUID.randomUUID();
         String videoIdStr = videoId.toString();
         
@@ -69,7 +99,7 @@ class VideoManagementConsumerTest {
                 .build();
         
         videoMessageJson = "{\"videoId\":\"" + videoIdStr + "\",\"s3Key\":\"s3://bucket/test-video.mp4\",\"originalName\":\"original.mp4\",\"generatedName\":\"generated.mp4\",\"customerId\":1,\"customerEmail\":\"test@example.com\"}";
-        videoRecord = new ConsumerRecord<>("video-data", 0, 0, "key", videoMessageJson);
+        videoRecord = new ConsumerRecord<>("video-data", 0, 0, "key", bytes(videoMessageJson));
         
         // Set up VideoStatusMessage
         videoStatusMessage = VideoStatusMessage.builder()
@@ -80,7 +110,7 @@ class VideoManagementConsumerTest {
                 .build();
         
         statusMessageJson = "{\"videoId\":\"" + videoIdStr + "\",\"videoName\":\"Test Video\",\"customerEmail\":\"test@example.com\",\"videoStatus\":\"PROCESSED\"}";
-        statusRecord = new ConsumerRecord<>("video-status", 0, 0, "key", statusMessageJson);
+        statusRecord = new ConsumerRecord<>("video-status", 0, 0, "key", bytes(statusMessageJson));
         
         // Set up Video
         video = Video.builder()
@@ -91,123 +121,431 @@ class VideoManagementConsumerTest {
                 .customerEmail("test@example.com")
                 .build();
         
-        // Mock ObjectMapper
-        when(objectMapper.readValue(videoMessageJson, VideoMessage.class)).thenReturn(videoMessage);
-        when(objectMapper.readValue(statusMessageJson, VideoStatusMessage.class)).thenReturn(videoStatusMessage);
-        
-        // Replace the scheduler with our mock
-        try (MockedStatic<java.util.concurrent.Executors> executorsMock = Mockito.mockStatic(java.util.concurrent.Executors.class)) {
-            executorsMock.when(java.util.concurrent.Executors::newSingleThreadScheduledExecutor).thenReturn(scheduler);
-            consumer = new VideoManagementConsumer(objectMapper, videoUseCase, pendingStatusStorePort);
-        }
+        // Mock MessageDecoder
+        when(messageDecoder.readVideoMessage(bytes(videoMessageJson))).thenReturn(videoMessage);
+        when(messageDecoder.readVideoStatusMessage(bytes(statusMessageJson))).thenReturn(videoStatusMessage);
+
+        consumer = new VideoManagementConsumer(messageDecoder, videoUseCase, pendingStatusStorePort,
+                new KeyOrderedExecutor(4), videoIdFilter, reconciliationQueue, statusUpdateCoalescer,
+                writeBehindBuffer, statusBatchWriter, consumerMetrics, deadLetterRecoverer);
     }
 
     @Test
-    void listenVideoMessage_WhenVideoExists_ShouldUpdateUrl() throws Exception {
+    void listenVideoMessage_ShouldUpsertWithoutExistenceCheck() throws Exception {
         // Arrange
-        when(videoUseCase.existsById(videoId)).thenReturn(true);
-        
+        ArgumentCaptor<Video> videoCaptor = ArgumentCaptor.forClass(Video.class);
+
         // Act
         consumer.listenVideoMessage(videoRecord);
         
         // Assert
-        verify(videoUseCase).existsById(videoId);
-        verify(videoUseCase).updateVideoUrl(videoId, "s3://bucket/test-video.mp4");
+        verify(videoUseCase).upsertFromMessage(videoCaptor.capture());
+        assertEquals(videoId, videoCaptor.getValue().getId());
+        assertEquals("s3://bucket/test-video.mp4", videoCaptor.getValue().getUrl());
+        verify(videoUseCase, never()).existsById(any(UUID.class));
+        verify(videoUseCase, never()).updateVideoUrl(any(UUID.class), anyString());
         verify(videoUseCase, never()).createVideo(any(Video.class));
-        verify(scheduler).schedule(any(Runnable.class), eq(2L), eq(TimeUnit.SECONDS));
+        verifyNoInteractions(pendingStatusStorePort);
     }
 
     @Test
-    void listenVideoMessage_WhenVideoDoesNotExist_ShouldCreateVideo() throws Exception {
+    void listenVideoStatusMessage_WhenVideoExists_ShouldUpdateStatusImmediately() throws Exception {
         // Arrange
-        when(videoUseCase.existsById(videoId)).thenReturn(false);
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(true);
         
         // Act
-        consumer.listenVideoMessage(videoRecord);
+        consumer.listenVideoStatusMessage(statusRecord);
         
         // Assert
-        verify(videoUseCase).existsById(videoId);
-        verify(videoUseCase, never()).updateVideoUrl(any(UUID.class), anyString());
-        verify(videoUseCase).createVideo(any(Video.class));
-        verify(scheduler).schedule(any(Runnable.class), eq(2L), eq(TimeUnit.SECONDS));
+        verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+        verify(videoUseCase, never()).existsById(any(UUID.class));
+        verify(pendingStatusStorePort, never()).savePendingStatus(anyString(), any(VideoStatusMessage.class));
     }
 
     @Test
-    void listenVideoMessage_ShouldScheduleCheckForPendingStatus() throws Exception {
+    void listenVideoStatusMessage_WhenVideoDoesNotExist_ShouldSavePendingStatus() throws Exception {
         // Arrange
-        when(videoUseCase.existsById(videoId)).thenReturn(true);
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(false);
         
         // Act
-        consumer.listenVideoMessage(videoRecord);
+        consumer.listenVideoStatusMessage(statusRecord);
         
         // Assert
-        verify(scheduler).schedule(runnableCaptor.capture(), eq(2L), eq(TimeUnit.SECONDS));
-        
-        // Simulate running the scheduled task
-        when(pendingStatusStorePort.getAndRemovePendingStatus(videoId.toString()))
-                .thenReturn(Optional.of(videoStatusMessage));
-        
-        runnableCaptor.getValue().run();
-        
-        verify(pendingStatusStorePort).getAndRemovePendingStatus(videoId.toString());
-        verify(videoUseCase).updateVideoStatus(videoId, "PROCESSED");
+        verify(videoUseCase, times(2)).updateVideoStatusIfExists(videoId, "PROCESSED");
+        verify(videoUseCase, never()).existsById(any(UUID.class));
+        verify(pendingStatusStorePort).savePendingStatus(videoId.toString(), videoStatusMessage);
+        verify(pendingStatusStorePort, never()).getAndRemovePendingStatus(anyString());
+        verify(videoIdFilter).recordFalsePositive();
+        verify(reconciliationQueue).enqueue(argThat(r -> r.getVideoId().equals(videoId)));
+        verify(consumerMetrics).recordParked(1);
     }
 
     @Test
-    void listenVideoStatusMessage_WhenVideoExists_ShouldUpdateStatusImmediately() throws Exception {
+    void listenVideoStatusMessage_WhenReconciliationQueueFails_ShouldStillKeepParkedStatus() throws Exception {
         // Arrange
-        when(videoUseCase.existsById(videoId)).thenReturn(true);
-        
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(false);
+        doThrow(new RuntimeException("redis down")).when(reconciliationQueue).enqueue(any(PendingReconciliation.class));
+
         // Act
         consumer.listenVideoStatusMessage(statusRecord);
-        
+
         // Assert
-        verify(videoUseCase).existsById(videoId);
-        verify(videoUseCase).updateVideoStatus(videoId, "PROCESSED");
-        verify(pendingStatusStorePort, never()).savePendingStatus(anyString(), any(VideoStatusMessage.class));
+        verify(pendingStatusStorePort).savePendingStatus(videoId.toString(), videoStatusMessage);
+        verify(pendingStatusStorePort, never()).getAndRemovePendingStatus(anyString());
     }
 
     @Test
-    void listenVideoStatusMessage_WhenVideoDoesNotExist_ShouldSavePendingStatus() throws Exception {
+    void listenVideoStatusMessage_WhenFilterAllowsSkip_ShouldParkBeforeFirstUpdate() throws Exception {
         // Arrange
-        when(videoUseCase.existsById(videoId)).thenReturn(false);
-        
+        when(videoIdFilter.canSkipUpdate(videoId)).thenReturn(true);
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(false);
+
         // Act
         consumer.listenVideoStatusMessage(statusRecord);
-        
+
+        // Assert
+        InOrder inOrder = inOrder(videoUseCase, pendingStatusStorePort);
+        inOrder.verify(pendingStatusStorePort).savePendingStatus(videoId.toString(), videoStatusMessage);
+        inOrder.verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+        verify(videoUseCase, times(1)).updateVideoStatusIfExists(videoId, "PROCESSED");
+        verify(videoIdFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    void listenVideoStatusMessage_WhenFilterAllowsSkipButVideoWasInserted_ShouldStillApplyStatus() throws Exception {
+        // Arrange
+        when(videoIdFilter.canSkipUpdate(videoId)).thenReturn(true);
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(true);
+
+        // Act
+        consumer.listenVideoStatusMessage(statusRecord);
+
         // Assert
-        verify(videoUseCase).existsById(videoId);
-        verify(videoUseCase, never()).updateVideoStatus(any(UUID.class), anyString());
         verify(pendingStatusStorePort).savePendingStatus(videoId.toString(), videoStatusMessage);
+        verify(pendingStatusStorePort).getAndRemovePendingStatus(videoId.toString());
+    }
+
+    @Test
+    void listenVideoStatusMessage_WhenVideoInsertedWhileParking_ShouldApplyAndClearPendingStatus() throws Exception {
+        // Arrange
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(false, true);
+
+        // Act
+        consumer.listenVideoStatusMessage(statusRecord);
+
+        // Assert
+        InOrder inOrder = inOrder(videoUseCase, pendingStatusStorePort);
+        inOrder.verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+        inOrder.verify(pendingStatusStorePort).savePendingStatus(videoId.toString(), videoStatusMessage);
+        inOrder.verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+        inOrder.verify(pendingStatusStorePort).getAndRemovePendingStatus(videoId.toString());
+        verifyNoInteractions(reconciliationQueue);
     }
 
     @Test
-    void listenVideoMessage_WhenExceptionOccurs_ShouldHandleGracefully() throws Exception {
+    void listenVideoMessage_WhenPayloadUnreadable_ShouldRethrowForDeadLetter() throws Exception {
         // Arrange
-        when(objectMapper.readValue(anyString(), eq(VideoMessage.class)))
+        when(messageDecoder.readVideoMessage(any()))
                 .thenThrow(new JsonProcessingException("Test exception") {});
-        
-        // Act - should not throw exception
-        consumer.listenVideoMessage(videoRecord);
-        
-        // Assert - no interactions with other dependencies
-        verify(videoUseCase, never()).existsById(any(UUID.class));
-        verify(videoUseCase, never()).updateVideoUrl(any(UUID.class), anyString());
-        verify(videoUseCase, never()).createVideo(any(Video.class));
+
+        // Act & Assert - the container's error handler sends it to the dead-letter topic
+        assertThrows(JsonProcessingException.class, () -> consumer.listenVideoMessage(videoRecord));
+        verify(videoUseCase, never()).upsertFromMessage(any(Video.class));
+    }
+
+    @Test
+    void listenVideoMessage_WhenUpsertFails_ShouldRethrowForRetryTopic() {
+        // Arrange
+        doThrow(new RuntimeException("db down")).when(videoUseCase).upsertFromMessage(any(Video.class));
+
+        // Act & Assert - the retry-topic handler forwards it to the next tier
+        assertThrows(RuntimeException.class, () -> consumer.listenVideoMessage(videoRecord));
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    void listenVideoStatusMessage_WhenStatusUpdateFails_ShouldRethrowForInPlaceRetry() {
+        // Arrange
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenThrow(new RuntimeException("db down"));
+
+        // Act & Assert - the container's error handler retries it without giving up the partition
+        assertThrows(RuntimeException.class, () -> consumer.listenVideoStatusMessage(statusRecord));
+        verify(pendingStatusStorePort, never()).savePendingStatus(anyString(), any(VideoStatusMessage.class));
     }
 
     @Test
-    void listenVideoStatusMessage_WhenExceptionOccurs_ShouldHandleGracefully() throws Exception {
+    void listenVideoStatusMessage_WhenPayloadUnreadable_ShouldRethrowForDeadLetter() throws Exception {
         // Arrange
-        when(objectMapper.readValue(anyString(), eq(VideoStatusMessage.class)))
+        when(messageDecoder.readVideoStatusMessage(any()))
                 .thenThrow(new JsonProcessingException("Test exception") {});
-        
-        // Act - should not throw exception
-        consumer.listenVideoStatusMessage(statusRecord);
-        
-        // Assert - no interactions with other dependencies
-        verify(videoUseCase, never()).existsById(any(UUID.class));
-        verify(videoUseCase, never()).updateVideoStatus(any(UUID.class), anyString());
+
+        // Act & Assert
+        assertThrows(JsonProcessingException.class, () -> consumer.listenVideoStatusMessage(statusRecord));
+        verify(videoUseCase, never()).updateVideoStatusIfExists(any(UUID.class), anyString());
         verify(pendingStatusStorePort, never()).savePendingStatus(anyString(), any(VideoStatusMessage.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listenVideoMessageBatch_ShouldCollapseRecordsPerVideoIntoSingleBulkUpsert() throws Exception {
+        // Arrange
+        String updatedJson = videoMessageJson.replace("test-video.mp4", "updated-video.mp4");
+        VideoMessage updatedMessage = VideoMessage.builder()
+                .videoId(videoId.toString())
+                .s3Key("s3://bucket/updated-video.mp4")
+                .originalName("other.mp4")
+                .customerId(1L)
+                .customerEmail("test@example.com")
+                .build();
+        when(messageDecoder.readVideoMessage(bytes(updatedJson))).thenReturn(updatedMessage);
+        ConsumerRecord<String, byte[]> updatedRecord = new ConsumerRecord<>("video-data", 0, 1, "key", bytes(updatedJson));
+        ArgumentCaptor<List<Video>> videosCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        consumer.listenVideoMessageBatch(List.of(videoRecord, updatedRecord));
+
+        // Assert
+        verify(videoUseCase).upsertVideos(videosCaptor.capture());
+        List<Video> upserted = videosCaptor.getValue();
+        assertEquals(1, upserted.size());
+        assertEquals("original.mp4", upserted.get(0).getName());
+        assertEquals("s3://bucket/updated-video.mp4", upserted.get(0).getUrl());
+        verify(videoUseCase, never()).existsById(any(UUID.class));
+        verifyNoInteractions(pendingStatusStorePort);
+    }
+
+    @Test
+    void listenVideoMessageBatch_WhenAllRecordsInvalid_ShouldDeadLetterThemAndSkipUpsert() throws Exception {
+        // Arrange
+        JsonProcessingException unreadable = new JsonProcessingException("Test exception") {};
+        when(messageDecoder.readVideoMessage(any())).thenThrow(unreadable);
+
+        // Act
+        consumer.listenVideoMessageBatch(List.of(videoRecord));
+
+        // Assert
+        verify(deadLetterRecoverer).accept(videoRecord, unreadable);
+        verify(videoUseCase, never()).upsertVideos(anyList());
+    }
+
+    @Test
+    void listenVideoMessageBatch_WhenUpsertFails_ShouldRethrowSoBatchIsNotAcked() {
+        // Arrange
+        doThrow(new RuntimeException("db down")).when(videoUseCase).upsertVideos(anyList());
+
+        // Act & Assert - the error handler retries the poll, then dead-letters it
+        assertThrows(RuntimeException.class, () -> consumer.listenVideoMessageBatch(List.of(videoRecord)));
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    void listenVideoMessageParallel_ShouldUpsertEveryRecordBeforeReturning() throws Exception {
+        // Act
+        consumer.listenVideoMessageParallel(List.of(videoRecord));
+
+        // Assert - the batch only returns (and is acked) once the lane finished
+        verify(videoUseCase).upsertFromMessage(any(Video.class));
+    }
+
+    @Test
+    void listenVideoStatusMessageParallel_ShouldKeepPerVideoOrder() throws Exception {
+        // Arrange
+        String doneJson = statusMessageJson.replace("PROCESSED", "DONE");
+        VideoStatusMessage doneMessage = VideoStatusMessage.builder()
+                .videoId(videoId)
+                .videoStatus("DONE")
+                .build();
+        when(messageDecoder.readVideoStatusMessage(bytes(doneJson))).thenReturn(doneMessage);
+        when(videoUseCase.updateVideoStatusIfExists(eq(videoId), anyString())).thenReturn(true);
+        ConsumerRecord<String, byte[]> doneRecord = new ConsumerRecord<>("video-status", 0, 1, "key", bytes(doneJson));
+
+        // Act
+        consumer.listenVideoStatusMessageParallel(List.of(statusRecord, doneRecord));
+
+        // Assert
+        InOrder inOrder = inOrder(videoUseCase);
+        inOrder.verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+        inOrder.verify(videoUseCase).updateVideoStatusIfExists(videoId, "DONE");
+        verifyNoInteractions(pendingStatusStorePort);
+    }
+
+    @Test
+    void listenVideoStatusMessageParallel_WhenRecordInvalid_ShouldDeadLetterItAndProcessTheRest() throws Exception {
+        // Arrange
+        ConsumerRecord<String, byte[]> invalidRecord = new ConsumerRecord<>("video-status", 0, 1, "key", bytes("not-json"));
+        JsonProcessingException unreadable = new JsonProcessingException("Test exception") {};
+        when(messageDecoder.readVideoStatusMessage(bytes("not-json"))).thenThrow(unreadable);
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenReturn(true);
+
+        // Act
+        consumer.listenVideoStatusMessageParallel(List.of(invalidRecord, statusRecord));
+
+        // Assert
+        verify(deadLetterRecoverer).accept(invalidRecord, unreadable);
+        verify(videoUseCase).updateVideoStatusIfExists(videoId, "PROCESSED");
+    }
+
+    @Test
+    void listenVideoMessageParallel_WhenLaneFails_ShouldReportTheFailedRecord() {
+        // Arrange
+        RuntimeException dbDown = new RuntimeException("db down");
+        doThrow(dbDown).when(videoUseCase).upsertFromMessage(any(Video.class));
+
+        // Act
+        BatchListenerFailedException failure = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listenVideoMessageParallel(List.of(videoRecord)));
+
+        // Assert - the error handler retries it in place, then dead-letters it
+        assertSame(videoRecord, failure.getRecord());
+        assertSame(dbDown, failure.getCause());
+    }
+
+    @Test
+    void listenVideoStatusMessageParallel_WhenLanesFail_ShouldReportTheEarliestFailedRecordAfterAllFinish() throws Exception {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        String otherJson = statusMessageJson.replace(videoId.toString(), otherId.toString());
+        when(messageDecoder.readVideoStatusMessage(bytes(otherJson))).thenReturn(VideoStatusMessage.builder()
+                .videoId(otherId)
+                .videoStatus("PROCESSED")
+                .build());
+        ConsumerRecord<String, byte[]> otherRecord = new ConsumerRecord<>("video-status", 0, 1, "key", bytes(otherJson));
+        ConsumerRecord<String, byte[]> laterRecord = new ConsumerRecord<>("video-status", 0, 2, "key", bytes(statusMessageJson));
+        when(videoUseCase.updateVideoStatusIfExists(videoId, "PROCESSED")).thenThrow(new RuntimeException("db down"));
+        when(videoUseCase.updateVideoStatusIfExists(otherId, "PROCESSED")).thenReturn(true);
+
+        // Act
+        BatchListenerFailedException failure = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listenVideoStatusMessageParallel(List.of(statusRecord, otherRecord, laterRecord)));
+
+        // Assert
+        assertSame(statusRecord, failure.getRecord());
+        verify(videoUseCase).updateVideoStatusIfExists(otherId, "PROCESSED");
+        verify(videoUseCase, times(2)).updateVideoStatusIfExists(videoId, "PROCESSED");
+    }
+
+    @Test
+    void listenVideoStatusMessageCoalesced_ShouldReturnOnlyAfterFlush() throws Exception {
+        // Arrange
+        CompletableFuture<Void> flushed = new CompletableFuture<>();
+        when(statusUpdateCoalescer.submit(videoStatusMessage)).thenReturn(flushed);
+        CompletableFuture<Void> listener = CompletableFuture.runAsync(
+                () -> consumer.listenVideoStatusMessageCoalesced(List.of(statusRecord)));
+
+        // Act
+        Thread.sleep(50);
+        boolean doneBeforeFlush = listener.isDone();
+        flushed.complete(null);
+        listener.get(1, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(doneBeforeFlush);
+        verifyNoInteractions(videoUseCase);
+    }
+
+    @Test
+    void listenVideoStatusMessageCoalesced_WhenFlushFails_ShouldRethrowSoBatchIsNotAcked() throws Exception {
+        // Arrange
+        when(statusUpdateCoalescer.submit(videoStatusMessage))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("db down")));
+
+        // Act & Assert
+        assertThrows(CompletionException.class,
+                () -> consumer.listenVideoStatusMessageCoalesced(List.of(statusRecord)));
+    }
+
+    @Test
+    void listenVideoMessageWriteBehind_ShouldSubmitEveryRecordAndWaitForGroupCommit() throws Exception {
+        // Arrange
+        when(writeBehindBuffer.submitUpsert(any(Video.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        consumer.listenVideoMessageWriteBehind(List.of(videoRecord));
+
+        // Assert
+        ArgumentCaptor<Video> videoCaptor = ArgumentCaptor.forClass(Video.class);
+        verify(writeBehindBuffer).submitUpsert(videoCaptor.capture());
+        assertEquals(videoId, videoCaptor.getValue().getId());
+        verifyNoInteractions(videoUseCase);
+    }
+
+    @Test
+    void listenVideoStatusMessageWriteBehind_WhenGroupCommitFails_ShouldRethrow() throws Exception {
+        // Arrange
+        when(writeBehindBuffer.submitStatus(videoStatusMessage))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("db down")));
+
+        // Act & Assert
+        assertThrows(CompletionException.class,
+                () -> consumer.listenVideoStatusMessageWriteBehind(List.of(statusRecord)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listenVideoMessageTransactional_ShouldUpsertBatchWithNextOffsets() throws Exception {
+        // Arrange
+        ConsumerRecord<String, byte[]> later = new ConsumerRecord<>("video-data", 0, 5, "key", bytes(videoMessageJson));
+
+        // Act
+        consumer.listenVideoMessageTransactional(List.of(videoRecord, later));
+
+        // Assert
+        ArgumentCaptor<List<Video>> videosCaptor = ArgumentCaptor.forClass(List.class);
+        verify(videoUseCase).upsertVideos(videosCaptor.capture(), eq(List.of(new ConsumedOffset("video-data", 0, 6L))));
+        assertEquals(1, videosCaptor.getValue().size());
+    }
+
+    @Test
+    void listenVideoMessageTransactional_WhenWriteFails_ShouldRethrow() {
+        // Arrange
+        doThrow(new RuntimeException("db down")).when(videoUseCase).upsertVideos(anyList(), anyCollection());
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> consumer.listenVideoMessageTransactional(List.of(videoRecord)));
+    }
+
+    @Test
+    void listenVideoStatusMessageTransactional_ShouldRecheckOnlyParkedStatuses() throws Exception {
+        // Arrange
+        when(videoUseCase.applyOrParkStatuses(Map.of(videoId, videoStatusMessage),
+                List.of(new ConsumedOffset("video-status", 0, 1L)))).thenReturn(Set.of(videoId));
+
+        // Act
+        consumer.listenVideoStatusMessageTransactional(List.of(statusRecord));
+
+        // Assert
+        verify(statusBatchWriter).recheckParked(Map.of(videoId, videoStatusMessage));
+        verify(consumerMetrics).recordParked(1);
+    }
+
+    @Test
+    void listenVideoStatusMessageTransactional_WhenNothingParked_ShouldSkipRecheck() throws Exception {
+        // Arrange
+        when(videoUseCase.applyOrParkStatuses(anyMap(), anyCollection())).thenReturn(Set.of());
+
+        // Act
+        consumer.listenVideoStatusMessageTransactional(List.of(statusRecord));
+
+        // Assert
+        verifyNoInteractions(statusBatchWriter);
+    }
+
+    @Test
+    void nextOffsets_ShouldTakeHighestOffsetPerPartitionPlusOne() {
+        // Arrange
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                new ConsumerRecord<>("video-status", 0, 3, "key", bytes("a")),
+                new ConsumerRecord<>("video-status", 1, 10, "key", bytes("b")),
+                new ConsumerRecord<>("video-status", 0, 4, "key", bytes("c")));
+
+        // Act
+        List<ConsumedOffset> offsets = VideoManagementConsumer.nextOffsets(records);
+
+        // Assert
+        assertEquals(List.of(new ConsumedOffset("video-status", 0, 5L), new ConsumedOffset("video-status", 1, 11L)), offsets);
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.fiapvideomanagement.adapters.inbound.messaging;
+
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBufferTest {
+
+    @Mock
+    private VideoUseCase videoUseCase;
+
+    @Mock
+    private StatusBatchWriter statusBatchWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WriteBehindBuffer buffer;
+    private UUID videoId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new WriteBehindBuffer(videoUseCase, statusBatchWriter, TransactionOperations.withoutTransaction(),
+                meterRegistry, 100, 10, Duration.ofMillis(50), false);
+        videoId = UUID.randomUUID();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainAndFlush_ShouldWriteUpsertsBeforeStatusesInOneGroup() {
+        // Arrange
+        CompletableFuture<Void> created = buffer.submitUpsert(video(videoId, "first.mp4"));
+        CompletableFuture<Void> moved = buffer.submitUpsert(video(videoId, "second.mp4"));
+        VideoStatusMessage processing = status(videoId, "PROCESSING");
+        VideoStatusMessage done = status(videoId, "DONE");
+        CompletableFuture<Void> firstStatus = buffer.submitStatus(processing);
+        CompletableFuture<Void> lastStatus = buffer.submitStatus(done);
+
+        // Act
+        boolean doneBeforeFlush = created.isDone();
+        buffer.drainAndFlush();
+
+        // Assert
+        assertFalse(doneBeforeFlush);
+        assertTrue(CompletableFuture.allOf(created, moved, firstStatus, lastStatus).isDone());
+        ArgumentCaptor<List<Video>> videosCaptor = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(videoUseCase, statusBatchWriter);
+        inOrder.verify(videoUseCase).upsertVideos(videosCaptor.capture());
+        inOrder.verify(statusBatchWriter).write(Map.of(videoId, done));
+        assertEquals(1, videosCaptor.getValue().size());
+        assertEquals("second.mp4", videosCaptor.getValue().get(0).getUrl());
+        assertEquals(1, meterRegistry.get("video.writebehind.batch.size").summary().count());
+    }
+
+    @Test
+    void drainAndFlush_ShouldSplitQueueIntoBatchesOfMaxBatch() {
+        // Arrange
+        for (int i = 0; i < 25; i++) {
+            buffer.submitStatus(status(UUID.randomUUID(), "DONE"));
+        }
+
+        // Act
+        buffer.drainAndFlush();
+
+        // Assert
+        verify(statusBatchWriter, times(3)).write(anyMap());
+        verify(videoUseCase, never()).upsertVideos(anyList());
+        assertEquals(0.0, meterRegistry.get("video.writebehind.queue.size").gauge().value());
+    }
+
+    @Test
+    void drainAndFlush_WhenWriteFails_ShouldFailEveryWaiterOfTheBatch() {
+        // Arrange
+        doThrow(new RuntimeException("db down")).when(videoUseCase).upsertVideos(anyList());
+        CompletableFuture<Void> upsert = buffer.submitUpsert(video(videoId, "video.mp4"));
+        CompletableFuture<Void> status = buffer.submitStatus(status(videoId, "DONE"));
+
+        // Act
+        buffer.drainAndFlush();
+
+        // Assert
+        assertTrue(upsert.isCompletedExceptionally());
+        assertTrue(status.isCompletedExceptionally());
+        verify(statusBatchWriter, never()).write(anyMap());
+    }
+
+    @Test
+    void submit_WithFlusherRunning_ShouldCompleteOnceTheGroupIsCommitted() throws Exception {
+        // Arrange
+        WriteBehindBuffer running = new WriteBehindBuffer(videoUseCase, statusBatchWriter,
+                TransactionOperations.withoutTransaction(), meterRegistry, 100, 10, Duration.ofMillis(20));
+        VideoStatusMessage message = status(videoId, "DONE");
+
+        // Act
+        CompletableFuture<Void> done = running.submitStatus(message);
+        done.get(5, TimeUnit.SECONDS);
+        running.shutdown();
+
+        // Assert
+        verify(statusBatchWriter).write(Map.of(videoId, message));
+    }
+
+    @Test
+    void submit_AfterShutdown_ShouldFailImmediately() {
+        // Arrange
+        buffer.shutdown();
+
+        // Act
+        CompletableFuture<Void> rejected = buffer.submitStatus(status(videoId, "DONE"));
+
+        // Assert
+        assertTrue(rejected.isCompletedExceptionally());
+    }
+
+    @Test
+    void submit_BlockedOnFullQueueDuringShutdown_ShouldNotHang() throws Exception {
+        // Arrange
+        WriteBehindBuffer full = new WriteBehindBuffer(videoUseCase, statusBatchWriter,
+                TransactionOperations.withoutTransaction(), meterRegistry, 1, 10, Duration.ofMillis(50), false);
+        full.submitStatus(status(videoId, "PROCESSING"));
+        CompletableFuture<CompletableFuture<Void>> blocked =
+                CompletableFuture.supplyAsync(() -> full.submitStatus(status(videoId, "DONE")));
+
+        // Act
+        full.shutdown();
+
+        // Assert - flushed by the final drain or failed after it, but never left pending
+        CompletableFuture<Void> done = blocked.get(5, TimeUnit.SECONDS);
+        done.handle((result, failure) -> null).get(5, TimeUnit.SECONDS);
+        assertTrue(done.isDone());
+    }
+
+    @Test
+    void drainAndFlush_ShouldWriteEachBatchInOneTransaction() {
+        // Arrange
+        AtomicInteger transactions = new AtomicInteger();
+        TransactionOperations counting = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+        WriteBehindBuffer transactional = new WriteBehindBuffer(videoUseCase, statusBatchWriter, counting,
+                meterRegistry, 100, 10, Duration.ofMillis(50), false);
+        transactional.submitUpsert(video(videoId, "video.mp4"));
+        transactional.submitStatus(status(videoId, "DONE"));
+
+        // Act
+        transactional.drainAndFlush();
+
+        // Assert
+        assertEquals(1, transactions.get());
+        verify(videoUseCase).upsertVideos(anyList());
+        verify(statusBatchWriter).write(anyMap());
+    }
+
+    private static Video video(UUID id, String url) {
+        return Video.builder().id(id).url(url).customerEmail("test@example.com").build();
+    }
+
+    private static VideoStatusMessage status(UUID videoId, String status) {
+        return VideoStatusMessage.builder().videoId(videoId).videoStatus(status).build();
+    }
+}
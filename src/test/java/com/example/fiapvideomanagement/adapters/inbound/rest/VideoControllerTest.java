@@ -1,8 +1,11 @@
 package com.example.fiapvideomanagement.adapters.inbound.rest;
 
+import com.example.fiapvideomanagement.domain.model.InvalidPageRequestException;
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoPage;
 import com.example.fiapvideomanagement.service.VideoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -14,13 +17,19 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -89,6 +98,122 @@ class VideoControllerTest {
         verify(videoService).findByCustomerEmail(customerEmail);
     }
 
+    @Test
+    void streamByCustomerEmail_WhenNdjsonAccepted_ShouldWriteOneVideoPerLine() throws Exception {
+        // Arrange
+        Video second = Video.builder().id(UUID.randomUUID()).name("Second").customerEmail(customerEmail).build();
+        doAnswer(invocation -> {
+            java.util.function.Consumer<Video> action = invocation.getArgument(1);
+            action.accept(video);
+            action.accept(second);
+            return null;
+        }).when(videoService).streamByCustomerEmail(eq(customerEmail), any());
+
+        // Act
+        var asyncResult = mockMvc.perform(get("/api/v1/videos")
+                        .param("customerEmail", customerEmail)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(videoId, objectMapper.readValue(lines[0], Video.class).getId());
+        assertEquals("Second", objectMapper.readValue(lines[1], Video.class).getName());
+    }
+
+    @Test
+    void streamByCustomerEmail_PastMaxDuration_ShouldStopReadingSoTheConnectionIsReleased() throws Exception {
+        // Arrange
+        VideoService service = mock(VideoService.class);
+        VideoController controller = new VideoController(service, objectMapper, Duration.ZERO);
+        doAnswer(invocation -> {
+            java.util.function.Consumer<Video> action = invocation.getArgument(1);
+            action.accept(video);
+            return null;
+        }).when(service).streamByCustomerEmail(eq(customerEmail), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act & Assert - the exception leaves the read transaction, which rolls back and frees the connection
+        assertThrows(IllegalStateException.class,
+                () -> controller.streamByCustomerEmail(customerEmail).getBody().writeTo(out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void streamByCustomerEmail_WhenNdjsonAcceptedWithLimit_ShouldStreamInsteadOfReturning406() throws Exception {
+        // Arrange
+        clearInvocations(videoService);
+        doAnswer(invocation -> {
+            java.util.function.Consumer<Video> action = invocation.getArgument(1);
+            action.accept(video);
+            return null;
+        }).when(videoService).streamByCustomerEmail(eq(customerEmail), any());
+
+        // Act
+        var asyncResult = mockMvc.perform(get("/api/v1/videos")
+                        .param("customerEmail", customerEmail)
+                        .param("limit", "1")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+        verify(videoService, never()).findPageByCustomerEmail(any(), any(), anyInt());
+    }
+
+    @Test
+    void findPageByCustomerEmail_WithLimit_ShouldReturnPageAndNextCursor() throws Exception {
+        // Arrange
+        when(videoService.findPageByCustomerEmail(customerEmail, null, 1))
+                .thenReturn(VideoPage.builder().items(List.of(video)).next("opaque").build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/videos")
+                        .param("customerEmail", customerEmail)
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", is(videoId.toString())))
+                .andExpect(jsonPath("$.next", is("opaque")));
+
+        verify(videoService).findPageByCustomerEmail(customerEmail, null, 1);
+    }
+
+    @Test
+    void findPageByCustomerEmail_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(videoService.findPageByCustomerEmail(customerEmail, "bad", 10))
+                .thenThrow(new InvalidPageRequestException("Invalid cursor"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/videos")
+                        .param("customerEmail", customerEmail)
+                        .param("limit", "10")
+                        .param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail", is("Invalid cursor")));
+    }
+
+    @Test
+    void findByCustomerEmail_WhenServiceRejectsArgument_ShouldNotBeTreatedAsBadPageRequest() {
+        // Arrange
+        when(videoService.findByCustomerEmail(customerEmail))
+                .thenThrow(new IllegalArgumentException("unexpected"));
+
+        // Act & Assert
+        assertThrows(ServletException.class, () -> mockMvc.perform(get("/api/v1/videos")
+                .param("customerEmail", customerEmail)));
+    }
+
     @Test
     void getById_WhenVideoExists_ShouldReturnVideo() throws Exception {
         // Arrange
@@ -0,0 +1,78 @@
+package com.example.fiapvideomanagement.adapters.outbound.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheInvalidationTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private NearCache videosCache;
+
+    private NearCacheInvalidation invalidation;
+    private NearCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        invalidation = new NearCacheInvalidation(redisTemplate);
+        when(videosCache.getName()).thenReturn("videos");
+        cacheManager = new NearCacheManager(List.of(videosCache));
+    }
+
+    @Test
+    void receive_FromAnotherInstance_ShouldEvictLocalEntry() {
+        // Act
+        invalidation.receive("other-instance|videos|42".getBytes(StandardCharsets.UTF_8), cacheManager);
+
+        // Assert
+        verify(videosCache).evictLocal("42");
+    }
+
+    @Test
+    void receive_WithEmptyKey_ShouldClearLocalTier() {
+        // Act
+        invalidation.receive("other-instance|videos|".getBytes(StandardCharsets.UTF_8), cacheManager);
+
+        // Assert
+        verify(videosCache).clearLocal();
+    }
+
+    @Test
+    void receive_OwnMessage_ShouldBeIgnored() {
+        // Arrange
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        invalidation.publish("videos", "42");
+        verify(redisTemplate).convertAndSend(eq(NearCacheInvalidation.CHANNEL), message.capture());
+
+        // Act
+        invalidation.receive(message.getValue().getBytes(StandardCharsets.UTF_8), cacheManager);
+
+        // Assert
+        verify(videosCache, never()).evictLocal(anyString());
+    }
+
+    @Test
+    void publish_WhenRedisUnavailable_ShouldNotPropagateFailure() {
+        // Arrange
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> invalidation.publish("videos", "42"));
+    }
+}
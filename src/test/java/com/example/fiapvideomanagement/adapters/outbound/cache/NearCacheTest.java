@@ -0,0 +1,115 @@
+package com.example.fiapvideomanagement.adapters.outbound.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTest {
+
+    @Mock
+    private Cache remote;
+
+    @Mock
+    private NearCacheInvalidation invalidation;
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private NearCache nearCache;
+    private UUID key;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        nearCache = new NearCache("videos", local, remote, invalidation);
+        key = UUID.randomUUID();
+    }
+
+    @Test
+    void get_WhenOnlyInRemote_ShouldPopulateLocalTier() {
+        // Arrange
+        when(remote.get(key)).thenReturn(new SimpleValueWrapper("video"));
+
+        // Act
+        Cache.ValueWrapper first = nearCache.get(key);
+        Cache.ValueWrapper second = nearCache.get(key);
+
+        // Assert
+        assertEquals("video", first.get());
+        assertEquals("video", second.get());
+        verify(remote, times(1)).get(key);
+        assertEquals("video", local.getIfPresent(key.toString()));
+    }
+
+    @Test
+    void get_WhenMissingInBothTiers_ShouldReturnNull() {
+        // Arrange
+        when(remote.get(key)).thenReturn(null);
+
+        // Act & Assert
+        assertNull(nearCache.get(key));
+        assertNull(local.getIfPresent(key.toString()));
+    }
+
+    @Test
+    void put_ShouldWriteBothTiers() {
+        // Act
+        nearCache.put(key, "video");
+
+        // Assert
+        verify(remote).put(key, "video");
+        assertEquals("video", nearCache.get(key).get());
+        verify(remote, never()).get(key);
+    }
+
+    @Test
+    void evict_ShouldClearBothTiersAndBroadcast() {
+        // Arrange
+        nearCache.put(key, "video");
+
+        // Act
+        nearCache.evict(key);
+
+        // Assert
+        verify(remote).evict(key);
+        assertNull(local.getIfPresent(key.toString()));
+        verify(invalidation).publish("videos", key.toString());
+    }
+
+    @Test
+    void clear_ShouldClearBothTiersAndBroadcastWithoutKey() {
+        // Arrange
+        nearCache.put(key, "video");
+
+        // Act
+        nearCache.clear();
+
+        // Assert
+        verify(remote).clear();
+        assertEquals(0, local.estimatedSize());
+        verify(invalidation).publish("videos", null);
+    }
+
+    @Test
+    void evictLocal_ShouldNotTouchRemoteOrBroadcast() {
+        // Arrange
+        nearCache.put(key, "video");
+
+        // Act
+        nearCache.evictLocal(key.toString());
+
+        // Assert
+        assertNull(local.getIfPresent(key.toString()));
+        verify(remote, never()).evict(any());
+        verifyNoInteractions(invalidation);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.fiapvideomanagement.adapters.outbound.jpa;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerOffsetRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ConsumerOffsetRepositoryAdapter adapter;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void saveOffsets_ShouldUpsertAllPartitionsInOneBatch() {
+        // Arrange
+        List<ConsumedOffset> offsets = List.of(
+                new ConsumedOffset("video-data", 0, 10L),
+                new ConsumedOffset("video-data", 1, 20L));
+
+        // Act
+        adapter.saveOffsets(offsets);
+
+        // Assert
+        ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), argsCaptor.capture());
+        assertEquals(2, argsCaptor.getValue().size());
+        assertArrayEquals(new Object[]{"video-data", 1, 20L}, Arrays.copyOf(argsCaptor.getValue().get(1), 3));
+    }
+
+    @Test
+    void saveOffsets_WithNothingToSave_ShouldNotTouchDatabase() {
+        // Act
+        adapter.saveOffsets(List.of());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findOffsets_ShouldQueryByTopic() {
+        // Arrange
+        List<ConsumedOffset> stored = List.of(new ConsumedOffset("video-status", 0, 5L));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("video-status"))).thenReturn(stored);
+
+        // Act
+        List<ConsumedOffset> offsets = adapter.findOffsets("video-status");
+
+        // Assert
+        assertEquals(stored, offsets);
+    }
+}
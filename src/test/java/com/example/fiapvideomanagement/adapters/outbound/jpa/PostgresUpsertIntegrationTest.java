@@ -0,0 +1,202 @@
+package com.example.fiapvideomanagement.adapters.outbound.jpa;
+
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The upserts rely on Postgres-only SQL ({@code ON CONFLICT ... DO UPDATE}) and on the
+ * driver's {@code reWriteBatchedInserts}, neither of which H2 reproduces, so these run
+ * against a real Postgres with the Flyway schema. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VideoRepositoryAdapter.class, ConsumerOffsetRepositoryAdapter.class})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresUpsertIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime REDELIVERED = LocalDateTime.of(2024, 1, 1, 11, 30);
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private VideoRepositoryAdapter videoRepository;
+
+    @Autowired
+    private ConsumerOffsetRepositoryAdapter offsetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UUID videoId;
+
+    @BeforeEach
+    void setUp() {
+        videoId = UUID.randomUUID();
+    }
+
+    @Test
+    void upsertFromMessage_OnNewVideo_ShouldInsertTheRow() {
+        // Act
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", null, CREATED));
+
+        // Assert
+        Video stored = videoRepository.findById(videoId).orElseThrow();
+        assertEquals("s3://bucket/first.mp4", stored.getUrl());
+        assertEquals("original.mp4", stored.getName());
+        assertEquals(CREATED, stored.getCreatedAt());
+        assertNull(stored.getStatus());
+    }
+
+    @Test
+    void upsertFromMessage_OnExistingVideo_ShouldMoveUrlAndKeepCreatedAtAndStatus() {
+        // Arrange
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", "PROCESSED", CREATED));
+        Video redelivered = video(videoId, "s3://bucket/second.mp4", null, REDELIVERED);
+        redelivered.setName("renamed.mp4");
+
+        // Act
+        videoRepository.upsertFromMessage(redelivered);
+
+        // Assert
+        Video stored = videoRepository.findById(videoId).orElseThrow();
+        assertEquals("s3://bucket/second.mp4", stored.getUrl());
+        assertEquals("original.mp4", stored.getName());
+        assertEquals("PROCESSED", stored.getStatus());
+        assertEquals(CREATED, stored.getCreatedAt());
+        assertEquals(REDELIVERED, stored.getUpdatedAt());
+    }
+
+    @Test
+    void upsertFromMessage_WithMergedStatus_ShouldOverwriteTheStoredOne() {
+        // Arrange
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", "PROCESSING", CREATED));
+
+        // Act
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", "DONE", REDELIVERED));
+
+        // Assert
+        assertEquals("DONE", videoRepository.findById(videoId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void upsertAll_WithRewrittenBatch_ShouldInsertNewRowsAndMergeExistingOnes() {
+        // Arrange
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", "PROCESSED", CREATED));
+        List<Video> batch = new ArrayList<>();
+        batch.add(video(videoId, "s3://bucket/second.mp4", null, REDELIVERED));
+        for (int i = 0; i < 49; i++) {
+            batch.add(video(UUID.randomUUID(), "s3://bucket/" + i + ".mp4", null, REDELIVERED));
+        }
+
+        // Act
+        videoRepository.upsertAll(batch);
+
+        // Assert
+        assertEquals("true", dataSource.unwrap(HikariDataSource.class)
+                .getDataSourceProperties().getProperty("reWriteBatchedInserts"));
+        assertEquals(50, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM video", Integer.class));
+        Video merged = videoRepository.findById(videoId).orElseThrow();
+        assertEquals("s3://bucket/second.mp4", merged.getUrl());
+        assertEquals("PROCESSED", merged.getStatus());
+        assertEquals(CREATED, merged.getCreatedAt());
+    }
+
+    @Test
+    void updateStatuses_ShouldReportOnlyExistingRows() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        videoRepository.upsertFromMessage(video(videoId, "s3://bucket/first.mp4", null, CREATED));
+
+        // Act
+        Set<UUID> updated = videoRepository.updateStatuses(Map.of(videoId, "DONE", missingId, "DONE"), REDELIVERED);
+
+        // Assert
+        assertEquals(Set.of(videoId), updated);
+        assertEquals("DONE", videoRepository.findById(videoId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void saveOffsets_ShouldInsertThenMoveOffsetsPerPartition() {
+        // Arrange
+        offsetRepository.saveOffsets(List.of(
+                new ConsumedOffset("video-data", 0, 10L),
+                new ConsumedOffset("video-data", 1, 20L),
+                new ConsumedOffset("video-status", 0, 5L)));
+
+        // Act
+        offsetRepository.saveOffsets(List.of(new ConsumedOffset("video-data", 0, 42L)));
+
+        // Assert
+        List<ConsumedOffset> offsets = offsetRepository.findOffsets("video-data");
+        assertEquals(2, offsets.size());
+        assertEquals(42L, offsets.stream().filter(o -> o.getPartition() == 0).findFirst().orElseThrow().getNextOffset());
+        assertEquals(20L, offsets.stream().filter(o -> o.getPartition() == 1).findFirst().orElseThrow().getNextOffset());
+        assertEquals(1, offsetRepository.findOffsets("video-status").size());
+    }
+
+    @Test
+    void saveOffsets_WithLowerOffset_ShouldNotMoveThePartitionBackwards() {
+        // Arrange
+        offsetRepository.saveOffsets(List.of(new ConsumedOffset("video-status", 0, 42L)));
+
+        // Act
+        offsetRepository.saveOffsets(List.of(new ConsumedOffset("video-status", 0, 10L)));
+
+        // Assert
+        assertEquals(42L, offsetRepository.findOffsets("video-status").get(0).getNextOffset());
+    }
+
+    private static Video video(UUID id, String url, String status, LocalDateTime at) {
+        return Video.builder()
+                .id(id)
+                .name("original.mp4")
+                .url(url)
+                .customerId(1L)
+                .customerEmail("test@example.com")
+                .status(status)
+                .createdAt(at)
+                .updatedAt(at)
+                .build();
+    }
+}
@@ -1,17 +1,21 @@
 package com.example.fiapvideomanagement.adapters.outbound.jpa;
 
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +32,9 @@ class VideoRepositoryAdapterIntegrationTest {
     @Autowired
     private SpringVideoRepository springRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     private UUID videoId;
     private Video video;
     private String customerEmail;
@@ -131,6 +138,67 @@ class VideoRepositoryAdapterIntegrationTest {
         assertEquals(customerEmail, foundVideo.getCustomerEmail());
     }
 
+    @Test
+    void findByCustomerEmailAfter_ShouldWalkAllVideosNewestFirstWithoutGapsOrDuplicates() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < 5; i++) {
+            repositoryAdapter.save(Video.builder()
+                    .id(UUID.randomUUID())
+                    .name("Video " + i)
+                    .customerEmail(customerEmail)
+                    // two videos share a timestamp so the id tie-breaker is exercised
+                    .createdAt(base.plusMinutes(i / 2))
+                    .updatedAt(base)
+                    .build());
+        }
+
+        // Act
+        List<Video> firstPage = repositoryAdapter.findByCustomerEmailAfter(customerEmail, null, 2);
+        List<Video> secondPage = repositoryAdapter.findByCustomerEmailAfter(customerEmail, VideoCursor.of(firstPage.get(1)), 2);
+        List<Video> lastPage = repositoryAdapter.findByCustomerEmailAfter(customerEmail, VideoCursor.of(secondPage.get(1)), 2);
+
+        // Assert
+        assertEquals(2, firstPage.size());
+        assertEquals(2, secondPage.size());
+        assertEquals(1, lastPage.size());
+        List<UUID> seen = new java.util.ArrayList<>();
+        firstPage.forEach(v -> seen.add(v.getId()));
+        secondPage.forEach(v -> seen.add(v.getId()));
+        lastPage.forEach(v -> seen.add(v.getId()));
+        assertEquals(5, seen.stream().distinct().count());
+        assertFalse(firstPage.get(0).getCreatedAt().isBefore(lastPage.get(0).getCreatedAt()));
+    }
+
+    @Test
+    void forEachByCustomerEmail_ShouldStreamCustomerVideosNewestFirst() {
+        // Arrange
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 12, 0);
+        for (int i = 0; i < 3; i++) {
+            repositoryAdapter.save(Video.builder()
+                    .id(UUID.randomUUID())
+                    .name("Video " + i)
+                    .customerEmail(customerEmail)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base)
+                    .build());
+        }
+        repositoryAdapter.save(Video.builder()
+                .id(UUID.randomUUID())
+                .name("Other")
+                .customerEmail("other@example.com")
+                .createdAt(base)
+                .updatedAt(base)
+                .build());
+
+        // Act
+        List<String> names = new java.util.ArrayList<>();
+        repositoryAdapter.forEachByCustomerEmail(customerEmail, v -> names.add(v.getName()));
+
+        // Assert
+        assertEquals(List.of("Video 2", "Video 1", "Video 0"), names);
+    }
+
     @Test
     void existsById_ShouldReturnTrue_WhenVideoExists() {
         // Arrange
@@ -151,4 +219,46 @@ class VideoRepositoryAdapterIntegrationTest {
         // Assert
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void updateStatus_WhenVideoExists_ShouldUpdateSingleRow() {
+        // Arrange
+        repositoryAdapter.save(video);
+        LocalDateTime updatedAt = LocalDateTime.now().plusMinutes(1);
+
+        // Act
+        int updated = repositoryAdapter.updateStatus(videoId, "PROCESSED", updatedAt);
+
+        // Assert
+        assertEquals(1, updated);
+        Video found = repositoryAdapter.findById(videoId).orElseThrow();
+        assertEquals("PROCESSED", found.getStatus());
+        assertEquals("s3://bucket/test-video.mp4", found.getUrl());
+    }
+
+    @Test
+    void updateStatus_WhenVideoDoesNotExist_ShouldReturnZero() {
+        // Act
+        int updated = repositoryAdapter.updateStatus(UUID.randomUUID(), "PROCESSED", LocalDateTime.now());
+
+        // Assert
+        assertEquals(0, updated);
+    }
+
+    @Test
+    void updateStatuses_ShouldUpdateExistingRowsInOneBatchAndReportMissingOnes() {
+        // Arrange
+        repositoryAdapter.save(video);
+        entityManager.flush();
+        UUID missingId = UUID.randomUUID();
+
+        // Act
+        Set<UUID> updated = repositoryAdapter.updateStatuses(
+                Map.of(videoId, "PROCESSED", missingId, "DONE"), LocalDateTime.now());
+
+        // Assert
+        assertEquals(Set.of(videoId), updated);
+        entityManager.clear();
+        assertEquals("PROCESSED", repositoryAdapter.findById(videoId).orElseThrow().getStatus());
+    }
+}
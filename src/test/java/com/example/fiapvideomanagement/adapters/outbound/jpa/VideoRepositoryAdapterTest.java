@@ -1,21 +1,35 @@
 package com.example.fiapvideomanagement.adapters.outbound.jpa;
 
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.ArrayList;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +38,12 @@ class VideoRepositoryAdapterTest {
     @Mock
     private SpringVideoRepository springRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private VideoRepositoryAdapter repositoryAdapter;
 
@@ -144,6 +164,92 @@ class VideoRepositoryAdapterTest {
         verify(springRepository).findByCustomerEmail(customerEmail);
     }
 
+    @Test
+    void findByCustomerEmailAfter_WithoutCursor_ShouldQueryFirstPage() {
+        // Arrange
+        when(springRepository.findByCustomerEmailOrderByCreatedAtDescIdDesc(customerEmail, PageRequest.of(0, 10)))
+                .thenReturn(List.of(videoEntity));
+
+        // Act
+        List<Video> videos = repositoryAdapter.findByCustomerEmailAfter(customerEmail, null, 10);
+
+        // Assert
+        assertEquals(1, videos.size());
+        assertEquals(videoId, videos.get(0).getId());
+        verify(springRepository, never()).findByCustomerEmailAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void findByCustomerEmailAfter_WithCursor_ShouldSeekPastIt() {
+        // Arrange
+        UUID lastId = UUID.randomUUID();
+        VideoCursor cursor = new VideoCursor(now, lastId);
+        when(springRepository.findByCustomerEmailAfter(customerEmail, now, lastId, PageRequest.of(0, 10)))
+                .thenReturn(List.of(videoEntity));
+
+        // Act
+        List<Video> videos = repositoryAdapter.findByCustomerEmailAfter(customerEmail, cursor, 10);
+
+        // Assert
+        assertEquals(1, videos.size());
+        verify(springRepository).findByCustomerEmailAfter(customerEmail, now, lastId, PageRequest.of(0, 10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatuses_ShouldBatchOneUpdatePerVideoAndReturnUpdatedIds() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        Map<UUID, String> statuses = new LinkedHashMap<>();
+        statuses.put(videoId, "PROCESSED");
+        statuses.put(missingId, "DONE");
+        when(jdbcTemplate.batchUpdate(anyString(), any(List.class))).thenReturn(new int[]{1, 0});
+
+        // Act
+        Set<UUID> updated = repositoryAdapter.updateStatuses(statuses, now);
+
+        // Assert
+        assertEquals(Set.of(videoId), updated);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE video SET status = ?, updated_at = ? WHERE id = ?"),
+                argThat((List<Object[]> args) -> args.size() == 2 && args.get(0)[2].equals(videoId)));
+    }
+
+    @Test
+    void updateStatuses_WithNoStatuses_ShouldNotTouchDatabase() {
+        assertTrue(repositoryAdapter.updateStatuses(Map.of(), now).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void findIdsAfter_ShouldStartFromTheFirstIdAndThenSeek() {
+        // Arrange
+        UUID next = UUID.randomUUID();
+        when(springRepository.findIds(PageRequest.of(0, 2))).thenReturn(List.of(videoId));
+        when(springRepository.findIdsAfter(videoId, PageRequest.of(0, 2))).thenReturn(List.of(next));
+
+        // Act & Assert
+        assertEquals(List.of(videoId), repositoryAdapter.findIdsAfter(null, 2));
+        assertEquals(List.of(next), repositoryAdapter.findIdsAfter(videoId, 2));
+    }
+
+    @Test
+    void forEachByCustomerEmail_ShouldMapDetachAndCloseStream() {
+        // Arrange
+        var closed = new java.util.concurrent.atomic.AtomicBoolean();
+        when(springRepository.streamByCustomerEmailOrderByCreatedAtDescIdDesc(customerEmail))
+                .thenReturn(Stream.of(videoEntity).onClose(() -> closed.set(true)));
+        List<Video> received = new ArrayList<>();
+
+        // Act
+        repositoryAdapter.forEachByCustomerEmail(customerEmail, received::add);
+
+        // Assert
+        assertEquals(1, received.size());
+        assertEquals(videoId, received.get(0).getId());
+        verify(entityManager).detach(videoEntity);
+        assertTrue(closed.get());
+    }
+
     @Test
     void existsById_ShouldDelegateToSpringRepository() {
         // Arrange
@@ -156,4 +262,67 @@ class VideoRepositoryAdapterTest {
         assertTrue(result);
         verify(springRepository).existsById(videoId);
     }
+
+    @Test
+    void upsertFromMessage_ShouldIssueSingleStatement() {
+        // Arrange
+        Video video = Video.builder()
+                .id(videoId)
+                .url("s3://bucket/test-video.mp4")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        // Act
+        repositoryAdapter.upsertFromMessage(video);
+
+        // Assert
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        verifyNoInteractions(springRepository);
+    }
+
+    @Test
+    void upsertAll_ShouldSendSingleJdbcBatch() {
+        // Arrange
+        Video video = Video.builder()
+                .id(videoId)
+                .name("Test Video")
+                .url("s3://bucket/test-video.mp4")
+                .customerId(1L)
+                .customerEmail(customerEmail)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        List<Video> videos = List.of(video);
+
+        // Act
+        repositoryAdapter.upsertAll(videos);
+
+        // Assert
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(videos), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        verify(springRepository, never()).save(any(VideoEntity.class));
+    }
+
+    @Test
+    void upsertAll_WithEmptyList_ShouldNotHitDatabase() {
+        // Act
+        repositoryAdapter.upsertAll(List.of());
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void updateStatus_ShouldDelegateTargetedUpdateAndReturnRowCount() {
+        // Arrange
+        when(springRepository.updateStatus(videoId, "PROCESSED", now)).thenReturn(1);
+
+        // Act
+        int updated = repositoryAdapter.updateStatus(videoId, "PROCESSED", now);
+
+        // Assert
+        assertEquals(1, updated);
+        verify(springRepository).updateStatus(videoId, "PROCESSED", now);
+        verify(springRepository, never()).findById(any(UUID.class));
+    }
 }
\ No newline at end of file
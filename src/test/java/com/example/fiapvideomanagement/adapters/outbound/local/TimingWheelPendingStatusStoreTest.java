@@ -0,0 +1,195 @@
+package com.example.fiapvideomanagement.adapters.outbound.local;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimingWheelPendingStatusStoreTest {
+
+    @Mock
+    private PendingStatusStorePort redis;
+
+    private AtomicLong now;
+    private TimingWheelPendingStatusStore store;
+    private String videoId;
+    private VideoStatusMessage message;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000);
+        store = new TimingWheelPendingStatusStore(redis, Duration.ofSeconds(5), Duration.ofMillis(100), now::get, false);
+        videoId = UUID.randomUUID().toString();
+        message = VideoStatusMessage.builder().videoId(UUID.fromString(videoId)).videoStatus("PROCESSED").build();
+    }
+
+    @Test
+    void getAndRemove_WithinWindow_ShouldNeverTouchRedis() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+
+        // Act
+        Optional<VideoStatusMessage> result = store.getAndRemovePendingStatus(videoId);
+
+        // Assert
+        assertEquals(Optional.of(message), result);
+        advanceAndTick(Duration.ofSeconds(10));
+        verifyNoInteractions(redis);
+    }
+
+    @Test
+    void tick_AfterWindow_ShouldSpillUnclaimedStatusesInOneBatch() {
+        // Arrange
+        String otherId = UUID.randomUUID().toString();
+        store.savePendingStatus(videoId, message);
+        store.savePendingStatus(otherId, message);
+
+        // Act
+        advanceAndTick(Duration.ofMillis(4_800));
+        verifyNoInteractions(redis);
+        advanceAndTick(Duration.ofMillis(300));
+
+        // Assert
+        verify(redis).savePendingStatuses(Map.of(videoId, message, otherId, message));
+        assertEquals(0, store.localSize());
+    }
+
+    @Test
+    void getAndRemove_AfterSpill_ShouldReadFromRedis() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+        advanceAndTick(Duration.ofSeconds(6));
+        when(redis.getAndRemovePendingStatus(videoId)).thenReturn(Optional.of(message));
+
+        // Act
+        Optional<VideoStatusMessage> result = store.getAndRemovePendingStatus(videoId);
+
+        // Assert
+        assertEquals(Optional.of(message), result);
+    }
+
+    @Test
+    void save_ForKeyAlreadySpilled_ShouldWriteThroughSoRedisNeverHoldsAnOlderCopy() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+        advanceAndTick(Duration.ofSeconds(6));
+        VideoStatusMessage newer = VideoStatusMessage.builder().videoStatus("DONE").build();
+
+        // Act
+        store.savePendingStatus(videoId, newer);
+
+        // Assert
+        verify(redis).savePendingStatus(videoId, newer);
+        assertEquals(0, store.localSize());
+    }
+
+    @Test
+    void save_AfterSpilledKeyOutlivedRedisTtl_ShouldParkLocallyAgain() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+        advanceAndTick(Duration.ofSeconds(6));
+        advanceAndTick(Duration.ofSeconds(601));
+
+        // Act
+        store.savePendingStatus(videoId, message);
+
+        // Assert
+        verify(redis, never()).savePendingStatus(any(), any());
+        assertEquals(1, store.localSize());
+    }
+
+    @Test
+    void restore_WhenNewerStatusParkedMeanwhile_ShouldKeepTheNewerOne() {
+        // Arrange
+        VideoStatusMessage newer = VideoStatusMessage.builder().videoStatus("DONE").build();
+        store.savePendingStatus(videoId, newer);
+
+        // Act
+        store.restorePendingStatuses(Map.of(videoId, message));
+
+        // Assert
+        assertEquals(Optional.of(newer), store.getAndRemovePendingStatus(videoId));
+        verifyNoInteractions(redis);
+    }
+
+    @Test
+    void restore_ForKeyAlreadySpilled_ShouldRestoreInRedis() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+        advanceAndTick(Duration.ofSeconds(6));
+
+        // Act
+        store.restorePendingStatuses(Map.of(videoId, message));
+
+        // Assert
+        verify(redis).restorePendingStatuses(Map.of(videoId, message));
+        assertEquals(0, store.localSize());
+    }
+
+    @Test
+    void getAndRemoveMany_ShouldServeLocalHitsAndBatchOnlyMisses() {
+        // Arrange
+        String missingId = UUID.randomUUID().toString();
+        store.savePendingStatus(videoId, message);
+        when(redis.getAndRemovePendingStatuses(List.of(missingId))).thenReturn(Map.of());
+
+        // Act
+        Map<String, VideoStatusMessage> result = store.getAndRemovePendingStatuses(List.of(videoId, missingId));
+
+        // Assert
+        assertEquals(Map.of(videoId, message), result);
+        verify(redis).getAndRemovePendingStatuses(List.of(missingId));
+    }
+
+    @Test
+    void spillAll_ShouldMoveEverythingToRedisImmediately() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+
+        // Act
+        store.spillAll();
+
+        // Assert
+        verify(redis).savePendingStatuses(Map.of(videoId, message));
+        assertEquals(0, store.localSize());
+        advanceAndTick(Duration.ofSeconds(6));
+        verify(redis, times(1)).savePendingStatuses(anyMap());
+    }
+
+    @Test
+    void tick_WhenRedisFails_ShouldKeepStatusLocallyAndRetry() {
+        // Arrange
+        store.savePendingStatus(videoId, message);
+        doThrow(new RuntimeException("redis down")).doNothing().when(redis).savePendingStatuses(anyMap());
+
+        // Act
+        advanceAndTick(Duration.ofSeconds(6));
+
+        // Assert
+        assertEquals(1, store.localSize());
+        advanceAndTick(Duration.ofSeconds(6));
+        assertEquals(0, store.localSize());
+        verify(redis, times(2)).savePendingStatuses(Map.of(videoId, message));
+    }
+
+    private void advanceAndTick(Duration duration) {
+        now.addAndGet(duration.toMillis());
+        store.tick();
+    }
+}
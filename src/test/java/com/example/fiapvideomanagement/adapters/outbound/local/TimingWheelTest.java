@@ -0,0 +1,78 @@
+package com.example.fiapvideomanagement.adapters.outbound.local;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void advance_ShouldExpireItemsOnlyOnceTheirTickIsReached() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+        wheel.add(25, "a");
+        wheel.add(55, "b");
+        List<String> expired = new ArrayList<>();
+
+        // Act & Assert
+        wheel.advance(19, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(20, expired::add);
+        assertEquals(List.of("a"), expired);
+        wheel.advance(60, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+    }
+
+    @Test
+    void add_BeyondTheWheelSpan_ShouldCascadeThroughOverflowLevels() {
+        // Arrange
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 4, 0);
+        long[] deadlines = {15, 45, 170, 655, 1_000};
+        for (long deadline : deadlines) {
+            assertTrue(wheel.add(deadline, deadline));
+        }
+        List<Long> expired = new ArrayList<>();
+
+        // Act & Assert
+        for (long deadline : deadlines) {
+            long before = expired.size();
+            wheel.advance(deadline - 10, expired::add);
+            assertEquals(before, expired.size(), "expired early before " + deadline);
+            wheel.advance(deadline, expired::add);
+            assertEquals(deadline, expired.get(expired.size() - 1));
+        }
+        assertEquals(deadlines.length, expired.size());
+    }
+
+    @Test
+    void add_WhenDeadlineAlreadyDue_ShouldRejectIt() {
+        // Arrange
+        TimingWheel<String> wheel = new TimingWheel<>(10, 8, 100);
+
+        // Act & Assert
+        assertFalse(wheel.add(105, "late"));
+        assertTrue(wheel.add(110, "next tick"));
+    }
+
+    @Test
+    void advance_OverALongGap_ShouldExpireEverythingDueInOrderOfTicks() {
+        // Arrange
+        TimingWheel<Integer> wheel = new TimingWheel<>(10, 4, 0);
+        for (int i = 1; i <= 50; i++) {
+            wheel.add(i * 37L, i);
+        }
+        List<Integer> expired = new ArrayList<>();
+
+        // Act
+        wheel.advance(10_000, expired::add);
+
+        // Assert
+        assertEquals(50, expired.size());
+        for (int i = 1; i < expired.size(); i++) {
+            assertTrue(expired.get(i - 1) < expired.get(i));
+        }
+    }
+}
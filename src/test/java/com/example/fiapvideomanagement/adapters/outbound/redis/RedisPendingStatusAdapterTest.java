@@ -4,17 +4,25 @@ import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,7 +58,7 @@ class RedisPendingStatusAdapterTest {
                 .videoStatus("PROCESSED")
                 .build();
         
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
 
     @Test
@@ -91,4 +99,90 @@ class RedisPendingStatusAdapterTest {
         verify(redisTemplate).opsForValue();
         verify(valueOperations).getAndDelete(redisKey);
     }
-}
\ No newline at end of file
+
+    @Test
+    void savePendingStatuses_ShouldQueueEverySetInOnePipeline() {
+        // Arrange
+        String otherId = UUID.randomUUID().toString();
+        RedisOperations<String, VideoStatusMessage> pipeline = pipelineOperations();
+
+        // Act
+        adapter.savePendingStatuses(Map.of(videoIdStr, statusMessage, otherId, statusMessage));
+
+        // Assert
+        runCapturedPipeline(pipeline);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations).set(redisKey, statusMessage, STATUS_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+        verify(valueOperations).set(PENDING_STATUS_PREFIX + otherId, statusMessage, STATUS_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void restorePendingStatuses_ShouldOnlySetKeysThatAreStillAbsent() {
+        // Arrange
+        RedisOperations<String, VideoStatusMessage> pipeline = pipelineOperations();
+
+        // Act
+        adapter.restorePendingStatuses(Map.of(videoIdStr, statusMessage));
+
+        // Assert
+        runCapturedPipeline(pipeline);
+        verify(valueOperations).setIfAbsent(redisKey, statusMessage, STATUS_EXPIRATION_SECONDS, TimeUnit.SECONDS);
+        verify(valueOperations, never()).set(any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void getAndRemovePendingStatuses_ShouldMatchRepliesToIdsInOrder() {
+        // Arrange
+        String missingId = UUID.randomUUID().toString();
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(null, statusMessage));
+
+        // Act
+        Map<String, VideoStatusMessage> result = adapter.getAndRemovePendingStatuses(List.of(missingId, videoIdStr));
+
+        // Assert
+        assertEquals(Map.of(videoIdStr, statusMessage), result);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void getAndRemovePendingStatuses_ShouldIssueOneGetDelPerId() {
+        // Arrange
+        String otherId = UUID.randomUUID().toString();
+        RedisOperations<String, VideoStatusMessage> pipeline = pipelineOperations();
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(Arrays.asList(null, null));
+
+        // Act
+        adapter.getAndRemovePendingStatuses(List.of(videoIdStr, otherId));
+
+        // Assert
+        runCapturedPipeline(pipeline);
+        verify(valueOperations).getAndDelete(redisKey);
+        verify(valueOperations).getAndDelete(PENDING_STATUS_PREFIX + otherId);
+    }
+
+    @Test
+    void batchOperations_WithNoIds_ShouldNotTouchRedis() {
+        // Act
+        adapter.savePendingStatuses(Map.of());
+        Map<String, VideoStatusMessage> result = adapter.getAndRemovePendingStatuses(List.of());
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisOperations<String, VideoStatusMessage> pipelineOperations() {
+        RedisOperations<String, VideoStatusMessage> pipeline = mock(RedisOperations.class);
+        when(pipeline.opsForValue()).thenReturn(valueOperations);
+        return pipeline;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCapturedPipeline(RedisOperations<String, VideoStatusMessage> pipeline) {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        callback.getValue().execute(pipeline);
+    }
+}
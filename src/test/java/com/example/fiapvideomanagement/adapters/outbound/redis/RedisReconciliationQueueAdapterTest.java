@@ -0,0 +1,125 @@
+package com.example.fiapvideomanagement.adapters.outbound.redis;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisReconciliationQueueAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final List<String> KEYS =
+            List.of(RedisReconciliationQueueAdapter.DUE_KEY, RedisReconciliationQueueAdapter.INFLIGHT_KEY);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private RedisReconciliationQueueAdapter adapter;
+    private PendingReconciliation reconciliation;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RedisReconciliationQueueAdapter(redisTemplate, Clock.fixed(NOW, ZoneOffset.UTC),
+                Duration.ofSeconds(30), Duration.ofSeconds(60));
+        reconciliation = new PendingReconciliation(UUID.randomUUID(), NOW.minusSeconds(5));
+    }
+
+    @Test
+    void enqueue_ShouldScoreEntryByDueTime() {
+        // Arrange
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        // Act
+        adapter.enqueue(reconciliation);
+
+        // Assert
+        verify(zSetOperations).add(RedisReconciliationQueueAdapter.DUE_KEY,
+                RedisReconciliationQueueAdapter.toMember(reconciliation), NOW.plusSeconds(30).toEpochMilli());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void claimDue_ShouldRunClaimScriptWithNowLimitAndLease() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenReturn(List.of(RedisReconciliationQueueAdapter.toMember(reconciliation)));
+
+        // Act
+        List<PendingReconciliation> claimed = adapter.claimDue(50);
+
+        // Assert
+        assertEquals(List.of(reconciliation), claimed);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS),
+                eq(Long.toString(NOW.toEpochMilli())), eq("50"), eq(Long.toString(NOW.plusSeconds(60).toEpochMilli())));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void claimDue_WithMalformedEntry_ShouldDropItAndReturnTheRest() {
+        // Arrange
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenReturn(List.of("garbage", RedisReconciliationQueueAdapter.toMember(reconciliation)));
+
+        // Act
+        List<PendingReconciliation> claimed = adapter.claimDue(50);
+
+        // Assert
+        assertEquals(List.of(reconciliation), claimed);
+        verify(zSetOperations).remove(RedisReconciliationQueueAdapter.INFLIGHT_KEY, "garbage");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void complete_ShouldAckDoneAndRequeueRetriesInOneScript() {
+        // Arrange
+        PendingReconciliation retry = new PendingReconciliation(UUID.randomUUID(), NOW);
+
+        // Act
+        adapter.complete(List.of(reconciliation), List.of(retry));
+
+        // Assert
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS),
+                eq(Long.toString(NOW.plusSeconds(30).toEpochMilli())), eq("1"),
+                eq(RedisReconciliationQueueAdapter.toMember(reconciliation)),
+                eq(RedisReconciliationQueueAdapter.toMember(retry)));
+    }
+
+    @Test
+    void complete_WithNothingToDo_ShouldNotTouchRedis() {
+        // Act
+        adapter.complete(List.of(), List.of());
+
+        // Assert
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void member_ShouldRoundTrip() {
+        assertEquals(reconciliation,
+                RedisReconciliationQueueAdapter.fromMember(RedisReconciliationQueueAdapter.toMember(reconciliation)));
+        assertThrows(IllegalArgumentException.class, () -> RedisReconciliationQueueAdapter.fromMember("x|y"));
+    }
+}
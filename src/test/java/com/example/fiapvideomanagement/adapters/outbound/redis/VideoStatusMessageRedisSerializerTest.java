@@ -0,0 +1,100 @@
+package com.example.fiapvideomanagement.adapters.outbound.redis;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoStatusMessageRedisSerializerTest {
+
+    private VideoStatusMessageRedisSerializer serializer;
+    private VideoStatusMessage message;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new VideoStatusMessageRedisSerializer();
+        message = VideoStatusMessage.builder()
+                .videoId(UUID.randomUUID())
+                .videoName("F\u00e9rias na praia.mp4")
+                .customerEmail("test@example.com")
+                .videoStatus("PROCESSED")
+                .build();
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveEveryField() {
+        // Act
+        VideoStatusMessage decoded = serializer.deserialize(serializer.serialize(message));
+
+        // Assert
+        assertEquals(message.getVideoId(), decoded.getVideoId());
+        assertEquals(message.getVideoName(), decoded.getVideoName());
+        assertEquals(message.getCustomerEmail(), decoded.getCustomerEmail());
+        assertEquals("PROCESSED", decoded.getVideoStatus());
+    }
+
+    @Test
+    void serialize_WithKnownStatus_ShouldBeSmallerThanJson() {
+        // Arrange
+        byte[] json = new Jackson2JsonRedisSerializer<>(Object.class).serialize(message);
+
+        // Act
+        byte[] binary = serializer.serialize(message);
+
+        // Assert
+        assertEquals(VideoStatusMessageRedisSerializer.VERSION, binary[0]);
+        assertTrue(binary.length * 2 < json.length, binary.length + " vs " + json.length);
+    }
+
+    @Test
+    void roundTrip_WithUnknownStatusAndNulls_ShouldPreserveThem() {
+        // Arrange
+        VideoStatusMessage sparse = VideoStatusMessage.builder().videoStatus("REPROCESSING_QUEUED").build();
+
+        // Act
+        VideoStatusMessage decoded = serializer.deserialize(serializer.serialize(sparse));
+
+        // Assert
+        assertNull(decoded.getVideoId());
+        assertNull(decoded.getVideoName());
+        assertNull(decoded.getCustomerEmail());
+        assertEquals("REPROCESSING_QUEUED", decoded.getVideoStatus());
+        assertNull(serializer.deserialize(serializer.serialize(VideoStatusMessage.builder().build())).getVideoStatus());
+    }
+
+    @Test
+    void deserialize_WithLegacyJsonValue_ShouldStillReadIt() {
+        // Arrange
+        byte[] json = new Jackson2JsonRedisSerializer<>(Object.class).serialize(message);
+
+        // Act
+        VideoStatusMessage decoded = serializer.deserialize(json);
+
+        // Assert
+        assertEquals(message.getVideoId(), decoded.getVideoId());
+        assertEquals("PROCESSED", decoded.getVideoStatus());
+    }
+
+    @Test
+    void deserialize_WithTruncatedOrUnknownVersion_ShouldThrowSerializationException() {
+        byte[] encoded = serializer.serialize(message);
+        assertThrows(SerializationException.class,
+                () -> serializer.deserialize(Arrays.copyOf(encoded, encoded.length - 3)));
+
+        encoded[0] = 9;
+        assertThrows(SerializationException.class, () -> serializer.deserialize(encoded));
+    }
+
+    @Test
+    void nullAndEmpty_ShouldMapToNull() {
+        assertNull(serializer.serialize(null));
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+}
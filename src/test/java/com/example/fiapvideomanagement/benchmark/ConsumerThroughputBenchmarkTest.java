@@ -0,0 +1,441 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import com.example.fiapvideomanagement.adapters.inbound.messaging.ConsumerMetrics;
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.VideoMessage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load harness for the consumer path: produces interleaved video-data and video-status
+ * messages at a fixed rate into embedded Kafka and lets the real listeners write them to
+ * Postgres, with Redis replaced by in-memory ports. Reports sustained msgs/sec and p50/p99
+ * end-to-end latency (record timestamp to end of its delivery), then checks every video ended
+ * with its last url and status. Postgres instead of H2 because the upsert relies on
+ * {@code ON CONFLICT DO UPDATE}.
+ * <p>
+ * Run with {@code ./gradlew throughputBenchmark}; tune with {@code -Pthroughput.videos},
+ * {@code -Pthroughput.rate}, {@code -Pthroughput.status-first-ratio},
+ * {@code -Pvideo-management.consumer.video-data.mode} and the other consumer properties.
+ */
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.group-id=throughput-benchmark",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "video-management.retry.auto-create-topics=true"
+})
+@EmbeddedKafka(partitions = ConsumerThroughputBenchmarkTest.PARTITIONS, topics = {"video-data", "video-status"})
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "BENCHMARKS", matches = "true")
+class ConsumerThroughputBenchmarkTest {
+
+    static final int PARTITIONS = 8;
+
+    private static final int VIDEOS = Integer.getInteger("throughput.videos", 20_000);
+    private static final int WARMUP_VIDEOS = Integer.getInteger("throughput.warmup-videos", 2_000);
+    private static final int RATE = Integer.getInteger("throughput.rate", 5_000);
+    private static final double STATUS_FIRST_RATIO = Double.parseDouble(System.getProperty("throughput.status-first-ratio", "0.2"));
+    /** Videos with messages still to send at any moment; bounds how far apart one video's messages land. */
+    private static final int ACTIVE_VIDEOS = 200;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+    private static final List<String> STATUSES = List.of("PROCESSING", "PROCESSED", "DONE");
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("logging.level.com.example.fiapvideomanagement", () -> "WARN");
+        registry.add("logging.level.org.hibernate.SQL", () -> "WARN");
+        registry.add("logging.level.org.apache.kafka", () -> "WARN");
+    }
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DeliveryRecorder recorder;
+
+    @Test
+    void consumeInterleavedMessages_AtConfiguredRate() throws Exception {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            if (container.isRunning()) ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+        }
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        DefaultKafkaProducerFactory<String, String> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        try {
+            Scenario warmup = Scenario.generate(WARMUP_VIDEOS, new Random(1));
+            produce(kafkaTemplate, warmup);
+            awaitDelivered(warmup.messages().size());
+
+            Scenario scenario = Scenario.generate(VIDEOS, new Random(42));
+            recorder.reset();
+            long startedAt = System.currentTimeMillis();
+            produce(kafkaTemplate, scenario);
+            long sentAt = System.currentTimeMillis();
+            awaitDelivered(scenario.messages().size());
+
+            long elapsedMs = Math.max(1, recorder.lastDeliveryAt() - startedAt);
+            System.out.printf("%n[%s] video-data=%s video-status=%s messages=%d targetRate=%d/s sendRate=%.0f/s "
+                            + "sustained=%.0f msgs/s p50=%dms p99=%dms max=%dms statusFirst=%.0f%%%n",
+                    getClass().getSimpleName(),
+                    System.getProperty("video-management.consumer.video-data.mode", "record"),
+                    System.getProperty("video-management.consumer.video-status.mode", "record"),
+                    scenario.messages().size(), RATE,
+                    scenario.messages().size() * 1000.0 / Math.max(1, sentAt - startedAt),
+                    scenario.messages().size() * 1000.0 / elapsedMs,
+                    recorder.percentile(0.50), recorder.percentile(0.99), recorder.percentile(1.0),
+                    STATUS_FIRST_RATIO * 100);
+
+            assertFinalState(scenario);
+        } finally {
+            producerFactory.destroy();
+        }
+    }
+
+    /** Sends at {@link #RATE}, pacing each message against its slot instead of sleeping in bursts. */
+    private void produce(KafkaTemplate<String, String> kafkaTemplate, Scenario scenario) throws Exception {
+        long intervalNanos = 1_000_000_000L / RATE;
+        long start = System.nanoTime();
+        for (int i = 0; i < scenario.messages().size(); i++) {
+            long wait = start + i * intervalNanos - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            Message message = scenario.messages().get(i);
+            kafkaTemplate.send(new ProducerRecord<>(message.topic(), message.videoId().toString(),
+                    objectMapper.writeValueAsString(message.payload())));
+        }
+        kafkaTemplate.flush();
+    }
+
+    private void awaitDelivered(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (recorder.delivered() < expected) {
+            assertTrue(System.nanoTime() < deadline,
+                    "only " + recorder.delivered() + " of " + expected + " messages delivered");
+            Thread.sleep(50);
+        }
+    }
+
+    /** Re-reads for a few seconds: write-behind and coalescing modes finish their last flush after the delivery. */
+    private void assertFinalState(Scenario scenario) throws InterruptedException {
+        Map<UUID, String> mismatches = Map.of();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            mismatches = mismatches(scenario);
+            if (mismatches.isEmpty()) break;
+            Thread.sleep(100);
+        }
+        System.out.printf("[%s] final state: %d videos, %d wrong%n",
+                getClass().getSimpleName(), scenario.expected().size(), mismatches.size());
+        Map<UUID, String> wrong = mismatches;
+        assertTrue(wrong.isEmpty(), () -> "first mismatches: " + wrong.entrySet().stream().limit(10).toList());
+    }
+
+    private Map<UUID, String> mismatches(Scenario scenario) {
+        Map<UUID, String> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT id, url, status FROM video", rs -> {
+            actual.put(rs.getObject("id", UUID.class), rs.getString("url") + "|" + rs.getString("status"));
+        });
+        Map<UUID, String> wrong = new LinkedHashMap<>();
+        scenario.expected().forEach((videoId, expected) -> {
+            String found = actual.get(videoId);
+            if (!expected.equals(found)) wrong.put(videoId, "expected " + expected + " but was " + found);
+        });
+        return wrong;
+    }
+
+    private record Message(String topic, UUID videoId, Object payload) {
+    }
+
+    /**
+     * Per video: one video-data message, a later url change and the status sequence, with the
+     * first status moved ahead of the data for {@link #STATUS_FIRST_RATIO} of the videos. Videos
+     * are interleaved at random while each keeps its own order, as Kafka does per key.
+     */
+    private record Scenario(List<Message> messages, Map<UUID, String> expected) {
+
+        static Scenario generate(int videos, Random random) {
+            List<Message> messages = new ArrayList<>();
+            Map<UUID, String> expected = new HashMap<>();
+            List<Deque<Message>> active = new ArrayList<>();
+            int created = 0;
+            while (created < videos || !active.isEmpty()) {
+                while (active.size() < ACTIVE_VIDEOS && created < videos) {
+                    active.add(video(random, expected));
+                    created++;
+                }
+                int slot = random.nextInt(active.size());
+                Deque<Message> video = active.get(slot);
+                messages.add(video.poll());
+                if (video.isEmpty()) {
+                    active.set(slot, active.get(active.size() - 1));
+                    active.remove(active.size() - 1);
+                }
+            }
+            return new Scenario(messages, expected);
+        }
+
+        private static Deque<Message> video(Random random, Map<UUID, String> expected) {
+            UUID videoId = UUID.randomUUID();
+            String name = "video-" + videoId + ".mp4";
+            String email = "customer" + random.nextInt(1_000) + "@example.com";
+            Deque<Message> messages = new ArrayDeque<>();
+            messages.add(new Message("video-data", videoId, data(videoId, name, email, "uploads/" + name)));
+            messages.add(new Message("video-data", videoId, data(videoId, name, email, "processed/" + name)));
+            for (String status : STATUSES) {
+                messages.add(new Message("video-status", videoId, VideoStatusMessage.builder()
+                        .videoId(videoId)
+                        .videoName(name)
+                        .customerEmail(email)
+                        .videoStatus(status)
+                        .build()));
+            }
+            if (random.nextDouble() < STATUS_FIRST_RATIO) {
+                List<Message> reordered = new ArrayList<>(messages);
+                reordered.add(0, reordered.remove(2));
+                messages = new ArrayDeque<>(reordered);
+            }
+            expected.put(videoId, "processed/" + name + "|" + STATUSES.get(STATUSES.size() - 1));
+            return messages;
+        }
+
+        private static VideoMessage data(UUID videoId, String name, String email, String s3Key) {
+            return VideoMessage.builder()
+                    .videoId(videoId.toString())
+                    .s3Key(s3Key)
+                    .originalName(name)
+                    .generatedName(name)
+                    .customerId(1L)
+                    .customerEmail(email)
+                    .build();
+        }
+    }
+
+    /**
+     * Wraps {@link ConsumerMetrics} as the interceptor Boot applies to every factory, and
+     * records per-record latency in 1 ms buckets so a phase can be measured from zero.
+     */
+    static final class DeliveryRecorder implements RecordInterceptor<Object, Object>, BatchInterceptor<Object, Object> {
+
+        private static final int MAX_MS = 600_000;
+
+        private final ConsumerMetrics delegate;
+        private volatile AtomicLongArray latencyBuckets = new AtomicLongArray(MAX_MS + 1);
+        private final AtomicLong delivered = new AtomicLong();
+        private final AtomicLong lastDeliveryAt = new AtomicLong();
+
+        DeliveryRecorder(ConsumerMetrics delegate) {
+            this.delegate = delegate;
+        }
+
+        void reset() {
+            latencyBuckets = new AtomicLongArray(MAX_MS + 1);
+            delivered.set(0);
+            lastDeliveryAt.set(0);
+        }
+
+        long delivered() {
+            return delivered.get();
+        }
+
+        long lastDeliveryAt() {
+            return lastDeliveryAt.get();
+        }
+
+        long percentile(double quantile) {
+            AtomicLongArray buckets = latencyBuckets;
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) total += buckets.get(i);
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) return i;
+            }
+            return MAX_MS;
+        }
+
+        private void record(Iterable<ConsumerRecord<Object, Object>> records) {
+            long now = System.currentTimeMillis();
+            AtomicLongArray buckets = latencyBuckets;
+            long count = 0;
+            for (ConsumerRecord<Object, Object> record : records) {
+                buckets.incrementAndGet((int) Math.min(MAX_MS, Math.max(0, now - record.timestamp())));
+                count++;
+            }
+            delivered.addAndGet(count);
+            lastDeliveryAt.accumulateAndGet(now, Math::max);
+        }
+
+        @Override
+        public ConsumerRecord<Object, Object> intercept(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+            return delegate.intercept(record, consumer);
+        }
+
+        @Override
+        public void failure(ConsumerRecord<Object, Object> record, Exception exception, Consumer<Object, Object> consumer) {
+            delegate.failure(record, exception, consumer);
+        }
+
+        @Override
+        public void afterRecord(ConsumerRecord<Object, Object> record, Consumer<Object, Object> consumer) {
+            delegate.afterRecord(record, consumer);
+            record(List.of(record));
+        }
+
+        @Override
+        public ConsumerRecords<Object, Object> intercept(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+            return delegate.intercept(records, consumer);
+        }
+
+        @Override
+        public void success(ConsumerRecords<Object, Object> records, Consumer<Object, Object> consumer) {
+            delegate.success(records, consumer);
+            record(records);
+        }
+
+        @Override
+        public void failure(ConsumerRecords<Object, Object> records, Exception exception, Consumer<Object, Object> consumer) {
+            delegate.failure(records, exception, consumer);
+        }
+    }
+
+    @TestConfiguration
+    static class HarnessConfig {
+
+        @Bean
+        @Primary
+        DeliveryRecorder deliveryRecorder(ConsumerMetrics consumerMetrics) {
+            return new DeliveryRecorder(consumerMetrics);
+        }
+
+        @Bean
+        @Primary
+        PendingStatusStorePort inMemoryPendingStatusStore() {
+            return new PendingStatusStorePort() {
+                private final Map<String, VideoStatusMessage> pending = new ConcurrentHashMap<>();
+
+                @Override
+                public void savePendingStatus(String videoId, VideoStatusMessage message) {
+                    pending.put(videoId, message);
+                }
+
+                @Override
+                public Optional<VideoStatusMessage> getAndRemovePendingStatus(String videoId) {
+                    return Optional.ofNullable(pending.remove(videoId));
+                }
+
+                @Override
+                public void savePendingStatuses(Map<String, VideoStatusMessage> messages) {
+                    pending.putAll(messages);
+                }
+
+                @Override
+                public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+                    Map<String, VideoStatusMessage> found = new HashMap<>();
+                    videoIds.forEach(videoId -> {
+                        VideoStatusMessage message = pending.remove(videoId);
+                        if (message != null) found.put(videoId, message);
+                    });
+                    return found;
+                }
+
+                @Override
+                public void restorePendingStatuses(Map<String, VideoStatusMessage> messages) {
+                    messages.forEach(pending::putIfAbsent);
+                }
+            };
+        }
+
+        /** Reconciliation is disabled in the test profile, so nothing claims from the queue. */
+        @Bean
+        @Primary
+        ReconciliationQueuePort inMemoryReconciliationQueue() {
+            return new ReconciliationQueuePort() {
+                private final Map<UUID, PendingReconciliation> queued = new ConcurrentHashMap<>();
+
+                @Override
+                public void enqueue(PendingReconciliation reconciliation) {
+                    queued.put(reconciliation.getVideoId(), reconciliation);
+                }
+
+                @Override
+                public List<PendingReconciliation> claimDue(int limit) {
+                    return List.of();
+                }
+
+                @Override
+                public void complete(List<PendingReconciliation> done, List<PendingReconciliation> retry) {
+                }
+            };
+        }
+    }
+}
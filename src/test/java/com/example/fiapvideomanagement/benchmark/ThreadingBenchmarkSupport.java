@@ -0,0 +1,122 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.service.VideoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Shared load scenario for the platform vs virtual thread comparison.
+ * Runs against a real Postgres so request threads actually block on JDBC and on the
+ * 5-connection Hikari pool. Run with {@code ./gradlew threadingBenchmark}, which forks one
+ * JVM per variant with a heap sized like the 256Mi pod.
+ */
+abstract class ThreadingBenchmarkSupport {
+
+    private static final int WARMUP_REQUESTS = 1_000;
+    private static final int REQUESTS = 10_000;
+    private static final int CONCURRENCY = 200;
+    private static final String CUSTOMER_EMAIL = "benchmark@example.com";
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        POSTGRES.start();
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("logging.level.com.example.fiapvideomanagement", () -> "WARN");
+        registry.add("logging.level.org.hibernate.SQL", () -> "WARN");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Test
+    void findByCustomerEmail_UnderConcurrentLoad() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            videoService.createVideo(Video.builder()
+                    .id(UUID.randomUUID())
+                    .name("video-" + i)
+                    .url("s3://bucket/video-" + i + ".mp4")
+                    .customerId(1L)
+                    .customerEmail(CUSTOMER_EMAIL)
+                    .status("DONE")
+                    .build());
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/videos?customerEmail=" + CUSTOMER_EMAIL)).build();
+
+        run(client, request, WARMUP_REQUESTS);
+        System.gc();
+        long[] latencies = run(client, request, REQUESTS);
+
+        Arrays.sort(latencies);
+        var memory = ManagementFactory.getMemoryMXBean();
+        var threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%n[%s] requests=%d concurrency=%d p50=%.2fms p99=%.2fms max=%.2fms "
+                        + "heapUsed=%dMiB heapCommitted=%dMiB nonHeapUsed=%dMiB peakPlatformThreads=%d%n",
+                getClass().getSimpleName(), REQUESTS, CONCURRENCY,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6,
+                memory.getHeapMemoryUsage().getUsed() >> 20, memory.getHeapMemoryUsage().getCommitted() >> 20,
+                memory.getNonHeapMemoryUsage().getUsed() >> 20, threads.getPeakThreadCount());
+    }
+
+    private static long[] run(HttpClient client, HttpRequest request, int count) throws InterruptedException {
+        long[] latencies = new long[count];
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            int slot = i;
+            long start = System.nanoTime();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[slot] = System.nanoTime() - start;
+                        if (error != null || response.statusCode() != 200) failures.incrementAndGet();
+                        permits.release();
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        assertEquals(0, failures.get());
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
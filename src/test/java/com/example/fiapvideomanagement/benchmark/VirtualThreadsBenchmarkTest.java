@@ -0,0 +1,14 @@
+package com.example.fiapvideomanagement.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "BENCHMARKS", matches = "true")
+class VirtualThreadsBenchmarkTest extends ThreadingBenchmarkSupport {
+}
@@ -0,0 +1,86 @@
+package com.example.fiapvideomanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null) endpoint.shutdown();
+    }
+
+    @Test
+    void status_ShouldReportNoneBeforeStart() {
+        // Arrange
+        endpoint = new JfrRecordingEndpoint(tempDir, Duration.ofSeconds(30), Duration.ofMinutes(5), 3);
+
+        // Act
+        Map<String, Object> status = endpoint.status();
+
+        // Assert
+        assertEquals("NONE", status.get("state"));
+    }
+
+    @Test
+    void startAndStop_ShouldWriteRecordingToDirectory() throws Exception {
+        // Arrange
+        endpoint = new JfrRecordingEndpoint(tempDir, Duration.ofSeconds(30), Duration.ofMinutes(5), 3);
+
+        // Act
+        Map<String, Object> started = endpoint.start(null);
+        Map<String, Object> again = endpoint.start(5L);
+        Map<String, Object> stopped = endpoint.stop();
+
+        // Assert
+        assertEquals("RUNNING", started.get("state"));
+        assertEquals(Duration.ofSeconds(30), started.get("duration"));
+        assertEquals(started.get("file"), again.get("file"));
+        assertEquals("STOPPED", stopped.get("state"));
+        Path file = Path.of((String) stopped.get("file"));
+        assertTrue(file.startsWith(tempDir));
+        assertTrue(Files.size(file) > 0);
+    }
+
+    @Test
+    void start_WithDurationAboveMaximum_ShouldCapIt() throws Exception {
+        // Arrange
+        endpoint = new JfrRecordingEndpoint(tempDir, Duration.ofSeconds(30), Duration.ofMinutes(5), 3);
+
+        // Act
+        Map<String, Object> started = endpoint.start(86_400L);
+
+        // Assert
+        assertEquals(Duration.ofMinutes(5), started.get("duration"));
+    }
+
+    @Test
+    void start_ShouldDeleteOldestRecordingsBeyondMaxFiles() throws Exception {
+        // Arrange
+        endpoint = new JfrRecordingEndpoint(tempDir, Duration.ofSeconds(30), Duration.ofMinutes(5), 2);
+        Path oldest = Files.createFile(tempDir.resolve("video-management-1000000000000.jfr"));
+        Path newer = Files.createFile(tempDir.resolve("video-management-1000000000001.jfr"));
+        Path unrelated = Files.createFile(tempDir.resolve("heap.hprof"));
+
+        // Act
+        endpoint.start(null);
+
+        // Assert
+        assertFalse(Files.exists(oldest));
+        assertTrue(Files.exists(newer));
+        assertTrue(Files.exists(unrelated));
+    }
+}
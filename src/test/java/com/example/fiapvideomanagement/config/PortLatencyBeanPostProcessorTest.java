@@ -0,0 +1,166 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PortLatencyBeanPostProcessorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowOperationLog slowOperationLog;
+    private PortLatencyBeanPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        slowOperationLog = new SlowOperationLog(Duration.ZERO, 1.0, 10);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        beanFactory.addBean("slowOperationLog", slowOperationLog);
+        postProcessor = new PortLatencyBeanPostProcessor(List.of(PendingStatusStorePort.class),
+                beanFactory.getBeanProvider(MeterRegistry.class), beanFactory.getBeanProvider(SlowOperationLog.class));
+    }
+
+    @Test
+    void postProcess_ShouldRecordLatencyPerPortMethodAndKeepConcreteType() {
+        // Arrange
+        InMemoryStore store = new InMemoryStore();
+        VideoStatusMessage message = VideoStatusMessage.builder().videoStatus("DONE").build();
+
+        // Act
+        Object processed = postProcessor.postProcessAfterInitialization(store, "store");
+        InMemoryStore proxy = (InMemoryStore) processed;
+        proxy.savePendingStatus("video-1", message);
+        proxy.getAndRemovePendingStatus("video-1");
+        proxy.size();
+
+        // Assert
+        assertNotSame(store, processed);
+        assertEquals(1, meterRegistry.get("video.port.latency")
+                .tags("port", "PendingStatusStorePort", "adapter", "InMemoryStore", "method", "savePendingStatus")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("video.port.latency").tag("method", "getAndRemovePendingStatus").timer().count());
+        assertNull(meterRegistry.find("video.port.latency").tag("method", "size").timer());
+        assertEquals(2, slowOperationLog.operations().size());
+        assertEquals("getAndRemovePendingStatus", slowOperationLog.operations().get(0).method());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void postProcess_ShouldLookUpRegistryAndLogOnlyOnce() {
+        // Arrange
+        ObjectProvider<MeterRegistry> registryProvider = mock(ObjectProvider.class);
+        ObjectProvider<SlowOperationLog> logProvider = mock(ObjectProvider.class);
+        when(registryProvider.getObject()).thenReturn(meterRegistry);
+        when(logProvider.getObject()).thenReturn(slowOperationLog);
+        InMemoryStore proxy = (InMemoryStore) new PortLatencyBeanPostProcessor(List.of(PendingStatusStorePort.class),
+                registryProvider, logProvider).postProcessAfterInitialization(new InMemoryStore(), "store");
+
+        // Act
+        proxy.getAndRemovePendingStatus("video-1");
+        proxy.getAndRemovePendingStatus("video-2");
+        proxy.savePendingStatus("video-3", VideoStatusMessage.builder().videoStatus("DONE").build());
+
+        // Assert
+        verify(registryProvider, times(1)).getObject();
+        verify(logProvider, times(1)).getObject();
+        assertEquals(3, slowOperationLog.operations().size());
+    }
+
+    @Test
+    void postProcess_WithAnonymousImplementation_ShouldFallBackToInterfaceProxy() {
+        // Arrange
+        PendingStatusStorePort anonymous = new PendingStatusStorePort() {
+            @Override
+            public void savePendingStatus(String videoId, VideoStatusMessage message) {
+            }
+
+            @Override
+            public Optional<VideoStatusMessage> getAndRemovePendingStatus(String videoId) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void savePendingStatuses(Map<String, VideoStatusMessage> statuses) {
+            }
+
+            @Override
+            public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+                return Map.of();
+            }
+
+            @Override
+            public void restorePendingStatuses(Map<String, VideoStatusMessage> statuses) {
+            }
+        };
+
+        // Act
+        PendingStatusStorePort proxy = (PendingStatusStorePort) postProcessor.postProcessAfterInitialization(anonymous, "anonymous");
+        proxy.getAndRemovePendingStatuses(List.of("video-1"));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("video.port.latency").tag("method", "getAndRemovePendingStatuses").timer().count());
+    }
+
+    @Test
+    void postProcess_ShouldLeaveOtherBeansAlone() {
+        // Arrange
+        Object bean = new Object();
+
+        // Act & Assert
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "other"));
+    }
+
+    static class InMemoryStore implements PendingStatusStorePort {
+        private final Map<String, VideoStatusMessage> statuses = new HashMap<>();
+
+        @Override
+        public void savePendingStatus(String videoId, VideoStatusMessage message) {
+            statuses.put(videoId, message);
+        }
+
+        @Override
+        public Optional<VideoStatusMessage> getAndRemovePendingStatus(String videoId) {
+            return Optional.ofNullable(statuses.remove(videoId));
+        }
+
+        @Override
+        public void savePendingStatuses(Map<String, VideoStatusMessage> batch) {
+            statuses.putAll(batch);
+        }
+
+        @Override
+        public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+            Map<String, VideoStatusMessage> found = new HashMap<>();
+            videoIds.forEach(id -> {
+                VideoStatusMessage message = statuses.remove(id);
+                if (message != null) found.put(id, message);
+            });
+            return found;
+        }
+
+        @Override
+        public void restorePendingStatuses(Map<String, VideoStatusMessage> batch) {
+            batch.forEach(statuses::putIfAbsent);
+        }
+
+        public int size() {
+            return statuses.size();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.fiapvideomanagement.config;
+
+import com.example.fiapvideomanagement.domain.model.Video;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowOperationLogTest {
+
+    private static final long SLOW = Duration.ofMillis(150).toNanos();
+    private static final long FAST = Duration.ofMillis(5).toNanos();
+
+    @Test
+    void offer_ShouldKeepOnlyOperationsOverThreshold() {
+        // Arrange
+        SlowOperationLog log = new SlowOperationLog(Duration.ofMillis(100), 1.0, 10);
+
+        // Act
+        log.offer("VideoRepositoryPort", "findById", FAST, new Object[]{"a"});
+        log.offer("VideoRepositoryPort", "save", SLOW, new Object[]{"b"});
+
+        // Assert
+        List<SlowOperationLog.SlowOperation> operations = log.operations();
+        assertEquals(1, operations.size());
+        assertEquals("save", operations.get(0).method());
+        assertEquals(150, operations.get(0).durationMs());
+        assertEquals(List.of("b"), operations.get(0).arguments());
+    }
+
+    @Test
+    void offer_ShouldDropOldestWhenFullAndReturnNewestFirst() {
+        // Arrange
+        SlowOperationLog log = new SlowOperationLog(Duration.ZERO, 1.0, 2);
+
+        // Act
+        log.offer("PendingStatusStorePort", "first", SLOW, null);
+        log.offer("PendingStatusStorePort", "second", SLOW, null);
+        log.offer("PendingStatusStorePort", "third", SLOW, null);
+
+        // Assert
+        assertEquals(List.of("third", "second"),
+                log.operations().stream().map(SlowOperationLog.SlowOperation::method).toList());
+    }
+
+    @Test
+    void offer_WithZeroSampleRate_ShouldKeepNothing() {
+        // Arrange
+        SlowOperationLog log = new SlowOperationLog(Duration.ZERO, 0.0, 10);
+
+        // Act
+        log.offer("VideoRepositoryPort", "save", SLOW, new Object[0]);
+
+        // Assert
+        assertTrue(log.operations().isEmpty());
+    }
+
+    @Test
+    void offer_ShouldTruncateLongArguments() {
+        // Arrange
+        SlowOperationLog log = new SlowOperationLog(Duration.ZERO, 1.0, 10);
+
+        // Act
+        log.offer("VideoRepositoryPort", "save", SLOW, new Object[]{"x".repeat(500), null});
+
+        // Assert
+        List<String> arguments = log.operations().get(0).arguments();
+        assertEquals(203, arguments.get(0).length());
+        assertEquals("null", arguments.get(1));
+    }
+
+    @Test
+    void offer_ShouldSummariseArgumentsWithoutCustomerData() {
+        // Arrange
+        SlowOperationLog log = new SlowOperationLog(Duration.ZERO, 1.0, 10);
+        UUID videoId = UUID.randomUUID();
+        Video video = Video.builder().id(videoId).name("holiday.mp4").customerEmail("jane@example.com").build();
+
+        // Act
+        log.offer("VideoRepositoryPort", "upsertAll", SLOW,
+                new Object[]{video, "jane@example.com", new ArrayList<>(List.of(video, video)), 20});
+
+        // Assert
+        assertEquals(List.of("Video(id=" + videoId + ")", "***@example.com", "ArrayList(size=2)", "20"),
+                log.operations().get(0).arguments());
+    }
+}
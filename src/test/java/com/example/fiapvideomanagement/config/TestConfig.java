@@ -12,6 +12,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +45,26 @@ public class TestConfig {
                 VideoStatusMessage message = pendingStatuses.remove(videoId);
                 return Optional.ofNullable(message);
             }
+
+            @Override
+            public void savePendingStatuses(Map<String, VideoStatusMessage> messages) {
+                pendingStatuses.putAll(messages);
+            }
+
+            @Override
+            public Map<String, VideoStatusMessage> getAndRemovePendingStatuses(Collection<String> videoIds) {
+                Map<String, VideoStatusMessage> found = new HashMap<>();
+                videoIds.forEach(videoId -> {
+                    VideoStatusMessage message = pendingStatuses.remove(videoId);
+                    if (message != null) found.put(videoId, message);
+                });
+                return found;
+            }
+
+            @Override
+            public void restorePendingStatuses(Map<String, VideoStatusMessage> messages) {
+                messages.forEach(pendingStatuses::putIfAbsent);
+            }
         };
     }
 
@@ -0,0 +1,79 @@
+package com.example.fiapvideomanagement.service;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageStageEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void finish_ShouldCommitStageWithRecordBoundToThread() throws Exception {
+        // Arrange
+        UUID videoId = UUID.randomUUID();
+        Path file = tempDir.resolve("stages.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(MessageStageEvent.NAME).withoutThreshold();
+            recording.start();
+            try (var binding = MessageStageEvent.bind("video-status", 3, 42L)) {
+                MessageStageEvent.start("status-update").finish(videoId);
+            }
+            MessageStageEvent.start("unbound").finish(null);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(MessageStageEvent.NAME))
+                .toList();
+        assertEquals(2, events.size());
+        RecordedEvent bound = events.stream().filter(e -> e.getString("stage").equals("status-update")).findFirst().orElseThrow();
+        assertEquals(videoId.toString(), bound.getString("videoId"));
+        assertEquals("video-status", bound.getString("topic"));
+        assertEquals(3, bound.getInt("partition"));
+        assertEquals(42L, bound.getLong("offset"));
+        RecordedEvent unbound = events.stream().filter(e -> e.getString("stage").equals("unbound")).findFirst().orElseThrow();
+        assertNull(unbound.getString("topic"));
+        assertEquals(-1, unbound.getInt("partition"));
+    }
+
+    @Test
+    void bind_ShouldRestoreOuterBindingWhenClosed() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("nested.jfr");
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(MessageStageEvent.NAME).withoutThreshold();
+            recording.start();
+            try (var outer = MessageStageEvent.bind("video-data", 0, 7L)) {
+                try (var inner = MessageStageEvent.bind("video-data", 0, 8L)) {
+                    MessageStageEvent.start("deserialize").finish("a");
+                }
+                MessageStageEvent.start("upsert").finish("a");
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Assert
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(MessageStageEvent.NAME))
+                .toList();
+        assertEquals(8L, events.stream().filter(e -> e.getString("stage").equals("deserialize")).findFirst().orElseThrow().getLong("offset"));
+        assertEquals(7L, events.stream().filter(e -> e.getString("stage").equals("upsert")).findFirst().orElseThrow().getLong("offset"));
+    }
+}
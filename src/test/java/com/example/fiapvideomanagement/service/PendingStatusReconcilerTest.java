@@ -0,0 +1,148 @@
+package com.example.fiapvideomanagement.service;
+
+import com.example.fiapvideomanagement.domain.model.PendingReconciliation;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.in.VideoUseCase;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
+import com.example.fiapvideomanagement.domain.port.out.ReconciliationQueuePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingStatusReconcilerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private ReconciliationQueuePort queue;
+
+    @Mock
+    private PendingStatusStorePort pendingStatusStore;
+
+    @Mock
+    private VideoUseCase videoUseCase;
+
+    private PendingStatusReconciler reconciler;
+    private UUID arrivedId;
+    private UUID missingId;
+    private VideoStatusMessage arrivedStatus;
+    private VideoStatusMessage missingStatus;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new PendingStatusReconciler(queue, pendingStatusStore, videoUseCase,
+                Clock.fixed(NOW, ZoneOffset.UTC), 2, Duration.ofMinutes(10));
+        arrivedId = UUID.randomUUID();
+        missingId = UUID.randomUUID();
+        arrivedStatus = VideoStatusMessage.builder().videoId(arrivedId).videoStatus("PROCESSED").build();
+        missingStatus = VideoStatusMessage.builder().videoId(missingId).videoStatus("DONE").build();
+    }
+
+    @Test
+    void reconcile_ShouldApplyInBulkAndRetryOnlyMissingVideos() {
+        // Arrange
+        PendingReconciliation arrived = new PendingReconciliation(arrivedId, NOW.minusSeconds(30));
+        PendingReconciliation missing = new PendingReconciliation(missingId, NOW.minusSeconds(30));
+        when(pendingStatusStore.getAndRemovePendingStatuses(List.of(arrivedId.toString(), missingId.toString())))
+                .thenReturn(Map.of(arrivedId.toString(), arrivedStatus, missingId.toString(), missingStatus));
+        when(videoUseCase.applyStatuses(Map.of(arrivedId, "PROCESSED", missingId, "DONE"))).thenReturn(Set.of(arrivedId));
+
+        // Act
+        reconciler.reconcile(List.of(arrived, missing));
+
+        // Assert
+        verify(pendingStatusStore).restorePendingStatuses(Map.of(missingId.toString(), missingStatus));
+        verify(queue).complete(List.of(arrived), List.of(missing));
+    }
+
+    @Test
+    void reconcile_WhenNothingIsParkedAnymore_ShouldJustAcknowledge() {
+        // Arrange
+        PendingReconciliation resolved = new PendingReconciliation(arrivedId, NOW.minusSeconds(30));
+        when(pendingStatusStore.getAndRemovePendingStatuses(anyList())).thenReturn(Map.of());
+
+        // Act
+        reconciler.reconcile(List.of(resolved));
+
+        // Assert
+        verify(queue).complete(List.of(resolved), List.of());
+        verifyNoInteractions(videoUseCase);
+    }
+
+    @Test
+    void reconcile_WhenVideoNeverArrivesWithinMaxAge_ShouldDropIt() {
+        // Arrange
+        PendingReconciliation stale = new PendingReconciliation(missingId, NOW.minus(Duration.ofMinutes(11)));
+        when(pendingStatusStore.getAndRemovePendingStatuses(anyList()))
+                .thenReturn(Map.of(missingId.toString(), missingStatus));
+        when(videoUseCase.applyStatuses(anyMap())).thenReturn(Set.of());
+
+        // Act
+        reconciler.reconcile(List.of(stale));
+
+        // Assert
+        verify(pendingStatusStore, never()).restorePendingStatuses(anyMap());
+        verify(queue).complete(List.of(stale), List.of());
+    }
+
+    @Test
+    void reconcile_WhenDatabaseFails_ShouldRestoreParkedStatusesAndLeaveLease() {
+        // Arrange
+        PendingReconciliation entry = new PendingReconciliation(arrivedId, NOW);
+        Map<String, VideoStatusMessage> pending = Map.of(arrivedId.toString(), arrivedStatus);
+        when(pendingStatusStore.getAndRemovePendingStatuses(anyList())).thenReturn(pending);
+        when(videoUseCase.applyStatuses(anyMap())).thenThrow(new RuntimeException("db down"));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> reconciler.reconcile(List.of(entry)));
+        verify(pendingStatusStore).restorePendingStatuses(pending);
+        verify(queue, never()).complete(anyList(), anyList());
+    }
+
+    @Test
+    void sweep_ShouldKeepClaimingWhileBatchesComeBackFull() {
+        // Arrange
+        PendingReconciliation first = new PendingReconciliation(arrivedId, NOW);
+        PendingReconciliation second = new PendingReconciliation(missingId, NOW);
+        when(queue.claimDue(2)).thenReturn(List.of(first, second), List.of());
+        when(pendingStatusStore.getAndRemovePendingStatuses(anyList())).thenReturn(Map.of());
+
+        // Act
+        reconciler.sweep();
+
+        // Assert
+        verify(queue, times(2)).claimDue(2);
+        verify(queue).complete(List.of(first, second), List.of());
+    }
+
+    @Test
+    void sweep_WhenQueueFails_ShouldNotPropagate() {
+        // Arrange
+        when(queue.claimDue(anyInt())).thenThrow(new RuntimeException("redis down"));
+
+        // Act
+        reconciler.sweep();
+
+        // Assert
+        verify(queue, never()).complete(any(), any());
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.fiapvideomanagement.service;
+
+import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoIdBloomFilterTest {
+
+    @Mock
+    private VideoRepositoryPort repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private VideoIdBloomFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new VideoIdBloomFilter(repository, meterRegistry, 1_000, 0.01, false);
+    }
+
+    @Test
+    void mightContain_BeforeLoad_ShouldAlwaysAnswerMaybe() {
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void load_ShouldScanIdsPageByPageAndAnswerForThem() {
+        // Arrange
+        List<UUID> firstPage = randomIds(VideoIdBloomFilter.LOAD_PAGE_SIZE);
+        List<UUID> lastPage = randomIds(3);
+        UUID lastOfFirst = firstPage.get(firstPage.size() - 1);
+        when(repository.findIdsAfter(isNull(), eq(VideoIdBloomFilter.LOAD_PAGE_SIZE))).thenReturn(firstPage);
+        when(repository.findIdsAfter(lastOfFirst, VideoIdBloomFilter.LOAD_PAGE_SIZE)).thenReturn(lastPage);
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertTrue(filter.isLoaded());
+        firstPage.forEach(id -> assertTrue(filter.mightContain(id)));
+        lastPage.forEach(id -> assertTrue(filter.mightContain(id)));
+        verify(repository, times(2)).findIdsAfter(any(), anyInt());
+    }
+
+    @Test
+    void mightContain_AfterLoad_ShouldRejectMostUnknownIds() {
+        // Arrange
+        when(repository.findIdsAfter(isNull(), anyInt())).thenReturn(List.of());
+        filter.load();
+        randomIds(1_000).forEach(filter::add);
+
+        // Act
+        long maybes = randomIds(10_000).stream().filter(filter::mightContain).count();
+
+        // Assert
+        assertTrue(maybes < 300, "false positives: " + maybes);
+        assertEquals(10_000 - maybes, meterRegistry.get("video.bloom.negatives").counter().count());
+    }
+
+    @Test
+    void add_ShouldExposeFillRatioAndExpectedFalsePositiveRate() {
+        // Act
+        randomIds(1_000).forEach(filter::add);
+
+        // Assert
+        double fill = meterRegistry.get("video.bloom.fill.ratio").gauge().value();
+        assertTrue(fill > 0.3 && fill < 0.7, "fill ratio: " + fill);
+        assertTrue(meterRegistry.get("video.bloom.expected.fpp").gauge().value() < 0.05);
+    }
+
+    @Test
+    void recordFalsePositive_ShouldOnlyCountOnceLoaded() {
+        // Arrange
+        when(repository.findIdsAfter(isNull(), anyInt())).thenReturn(List.of());
+
+        // Act
+        filter.recordFalsePositive();
+        filter.load();
+        filter.recordFalsePositive();
+
+        // Assert
+        assertEquals(1, meterRegistry.get("video.bloom.false.positives").counter().count());
+    }
+
+    @Test
+    void load_WhenRepositoryFails_ShouldStayUnloaded() {
+        // Arrange
+        when(repository.findIdsAfter(isNull(), anyInt())).thenThrow(new RuntimeException("db down"));
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void canSkipUpdate_WithSeveralReplicas_ShouldNeverSkip() {
+        // Arrange
+        when(repository.findIdsAfter(isNull(), anyInt())).thenReturn(List.of());
+        filter.load();
+
+        // Act & Assert
+        randomIds(100).forEach(id -> assertFalse(filter.canSkipUpdate(id)));
+    }
+
+    @Test
+    void canSkipUpdate_OnSingleReplica_ShouldSkipOnlyDefiniteMisses() {
+        // Arrange
+        VideoIdBloomFilter single = new VideoIdBloomFilter(repository, meterRegistry, 1_000, 0.01, true);
+        when(repository.findIdsAfter(isNull(), anyInt())).thenReturn(List.of());
+        UUID known = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        assertFalse(single.canSkipUpdate(unknown));
+        single.load();
+
+        // Act
+        single.add(known);
+
+        // Assert
+        assertFalse(single.canSkipUpdate(known));
+        assertEquals(!single.mightContain(unknown), single.canSkipUpdate(unknown));
+    }
+
+    private static List<UUID> randomIds(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        IntStream.range(0, count).forEach(i -> ids.add(UUID.randomUUID()));
+        return ids;
+    }
+}
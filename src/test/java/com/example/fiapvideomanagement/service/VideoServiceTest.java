@@ -1,6 +1,12 @@
 package com.example.fiapvideomanagement.service;
 
+import com.example.fiapvideomanagement.domain.model.ConsumedOffset;
 import com.example.fiapvideomanagement.domain.model.Video;
+import com.example.fiapvideomanagement.domain.model.VideoCursor;
+import com.example.fiapvideomanagement.domain.model.VideoPage;
+import com.example.fiapvideomanagement.domain.model.VideoStatusMessage;
+import com.example.fiapvideomanagement.domain.port.out.ConsumerOffsetStorePort;
+import com.example.fiapvideomanagement.domain.port.out.PendingStatusStorePort;
 import com.example.fiapvideomanagement.domain.port.out.VideoRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,15 +14,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +41,18 @@ class VideoServiceTest {
     @Mock
     private VideoRepositoryPort repository;
 
+    @Mock
+    private PendingStatusStorePort pendingStatusStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private VideoIdBloomFilter videoIdFilter;
+
+    @Mock
+    private ConsumerOffsetStorePort offsetStore;
+
     @InjectMocks
     private VideoService videoService;
 
@@ -76,6 +104,80 @@ class VideoServiceTest {
         verify(repository, never()).findByCustomerEmail(any());
     }
 
+    @Test
+    void findPageByCustomerEmail_WhenMoreRowsExist_ShouldReturnLimitAndNextCursor() {
+        // Arrange
+        Video older = Video.builder()
+                .id(UUID.randomUUID())
+                .customerEmail(customerEmail)
+                .createdAt(video.getCreatedAt().minusMinutes(1))
+                .build();
+        when(repository.findByCustomerEmailAfter(customerEmail, null, 2)).thenReturn(List.of(video, older));
+
+        // Act
+        VideoPage page = videoService.findPageByCustomerEmail(customerEmail, null, 1);
+
+        // Assert
+        assertEquals(List.of(video), page.getItems());
+        VideoCursor next = VideoCursor.decode(page.getNext());
+        assertEquals(videoId, next.getId());
+        assertEquals(video.getCreatedAt(), next.getCreatedAt());
+    }
+
+    @Test
+    void findPageByCustomerEmail_OnLastPage_ShouldNotReturnNextCursor() {
+        // Arrange
+        String cursor = new VideoCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+        when(repository.findByCustomerEmailAfter(eq(customerEmail), any(VideoCursor.class), eq(11)))
+                .thenReturn(List.of(video));
+
+        // Act
+        VideoPage page = videoService.findPageByCustomerEmail(customerEmail, cursor, 10);
+
+        // Assert
+        assertEquals(List.of(video), page.getItems());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void findPageByCustomerEmail_WithLimitOutOfRange_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> videoService.findPageByCustomerEmail(customerEmail, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> videoService.findPageByCustomerEmail(customerEmail, null, VideoService.MAX_PAGE_SIZE + 1));
+        verify(repository, never()).findByCustomerEmailAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void findPageByCustomerEmail_WithTamperedCursor_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> videoService.findPageByCustomerEmail(customerEmail, "not-a-cursor", 10));
+        verify(repository, never()).findByCustomerEmailAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamByCustomerEmail_ShouldPassEachVideoToAction() {
+        // Arrange
+        doAnswer(invocation -> {
+            java.util.function.Consumer<Video> action = invocation.getArgument(1);
+            action.accept(video);
+            return null;
+        }).when(repository).forEachByCustomerEmail(eq(customerEmail), any());
+        List<Video> received = new java.util.ArrayList<>();
+
+        // Act
+        videoService.streamByCustomerEmail(customerEmail, received::add);
+
+        // Assert
+        assertEquals(List.of(video), received);
+    }
+
+    @Test
+    void streamByCustomerEmail_WithBlankEmail_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> videoService.streamByCustomerEmail(" ", v -> { }));
+        verify(repository, never()).forEachByCustomerEmail(any(), any());
+    }
+
     @Test
     void findById_ShouldReturnVideo() {
         // Arrange
@@ -136,6 +238,7 @@ class VideoServiceTest {
 
         // Assert
         verify(repository).save(video);
+        verify(videoIdFilter).add(videoId);
         assertEquals(videoId, video.getId());
         assertNotNull(video.getCreatedAt());
         assertNotNull(video.getUpdatedAt());
@@ -170,33 +273,68 @@ class VideoServiceTest {
     }
 
     @Test
-    void updateVideoStatus_ShouldUpdateStatusAndSave() {
+    void updateVideoStatus_ShouldIssueTargetedUpdate() {
         // Arrange
         String newStatus = "PROCESSED";
-        when(repository.findById(videoId)).thenReturn(Optional.of(video));
-        when(repository.save(any(Video.class))).thenReturn(video);
+        when(repository.updateStatus(eq(videoId), eq(newStatus), any(LocalDateTime.class))).thenReturn(1);
 
         // Act
         videoService.updateVideoStatus(videoId, newStatus);
 
         // Assert
-        assertEquals(newStatus, video.getStatus());
-        verify(repository).findById(videoId);
-        verify(repository).save(video);
+        verify(repository).updateStatus(eq(videoId), eq(newStatus), any(LocalDateTime.class));
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any(Video.class));
     }
 
     @Test
     void updateVideoStatus_WithNonExistentId_ShouldThrowException() {
         // Arrange
         String newStatus = "PROCESSED";
-        when(repository.findById(videoId)).thenReturn(Optional.empty());
+        when(repository.updateStatus(eq(videoId), eq(newStatus), any(LocalDateTime.class))).thenReturn(0);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> videoService.updateVideoStatus(videoId, newStatus));
-        verify(repository).findById(videoId);
         verify(repository, never()).save(any(Video.class));
     }
 
+    @Test
+    void updateVideoStatusIfExists_ShouldReturnTrue_WhenRowUpdated() {
+        // Arrange
+        when(repository.updateStatus(eq(videoId), eq("PROCESSED"), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(videoService.updateVideoStatusIfExists(videoId, "PROCESSED"));
+    }
+
+    @Test
+    void updateVideoStatusIfExists_ShouldReturnFalse_WhenNoRowUpdated() {
+        // Arrange
+        when(repository.updateStatus(eq(videoId), eq("PROCESSED"), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(videoService.updateVideoStatusIfExists(videoId, "PROCESSED"));
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    void applyStatuses_ShouldUpdateInBulkAndEvictOnlyAppliedVideos() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(VideoService.VIDEO_CACHE)).thenReturn(cache);
+        Map<UUID, String> statuses = Map.of(videoId, "PROCESSED", missingId, "DONE");
+        when(repository.updateStatuses(eq(statuses), any(LocalDateTime.class))).thenReturn(Set.of(videoId));
+
+        // Act
+        Set<UUID> applied = videoService.applyStatuses(statuses);
+
+        // Assert
+        assertEquals(Set.of(videoId), applied);
+        verify(cache).evict(videoId);
+        verify(cache, never()).evict(missingId);
+    }
+
     @Test
     void existsById_ShouldReturnTrue_WhenVideoExists() {
         // Arrange
@@ -222,4 +360,194 @@ class VideoServiceTest {
         assertFalse(result);
         verify(repository).existsById(videoId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void upsertFromMessage_ShouldStampTimestampsAndDelegateSingleUpsert() {
+        // Arrange
+        Video fromMessage = Video.builder()
+                .id(videoId)
+                .name("original.mp4")
+                .url("s3://bucket/test-video.mp4")
+                .customerId(1L)
+                .customerEmail(customerEmail)
+                .build();
+
+        when(pendingStatusStore.getAndRemovePendingStatus(videoId.toString())).thenReturn(Optional.empty());
+
+        // Act
+        videoService.upsertFromMessage(fromMessage);
+
+        // Assert
+        verify(repository).upsertFromMessage(fromMessage);
+        verify(videoIdFilter).add(fromMessage.getId());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).existsById(any());
+        assertNotNull(fromMessage.getCreatedAt());
+        assertNotNull(fromMessage.getUpdatedAt());
+        assertNull(fromMessage.getStatus());
+    }
+
+    @Test
+    void upsertFromMessage_WithParkedStatus_ShouldWriteItInTheSameUpsert() {
+        // Arrange
+        Video fromMessage = Video.builder()
+                .id(videoId)
+                .url("s3://bucket/test-video.mp4")
+                .build();
+        VideoStatusMessage parked = VideoStatusMessage.builder()
+                .videoId(videoId)
+                .videoStatus("PROCESSED")
+                .build();
+        when(pendingStatusStore.getAndRemovePendingStatus(videoId.toString())).thenReturn(Optional.of(parked));
+
+        // Act
+        videoService.upsertFromMessage(fromMessage);
+
+        // Assert
+        assertEquals("PROCESSED", fromMessage.getStatus());
+        verify(repository).upsertFromMessage(fromMessage);
+        verify(repository, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void upsertFromMessage_WhenTransactionRollsBack_ShouldRestoreParkedStatus() {
+        // Arrange
+        Video fromMessage = Video.builder().id(videoId).build();
+        VideoStatusMessage parked = VideoStatusMessage.builder()
+                .videoId(videoId)
+                .videoStatus("PROCESSED")
+                .build();
+        when(pendingStatusStore.getAndRemovePendingStatus(videoId.toString())).thenReturn(Optional.of(parked));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            videoService.upsertFromMessage(fromMessage);
+
+            // Act
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(pendingStatusStore).restorePendingStatuses(Map.of(videoId.toString(), parked));
+    }
+
+    @Test
+    void upsertVideos_ShouldStampTimestampsAndDelegateBulkUpsert() {
+        // Arrange
+        Video fromMessage = Video.builder()
+                .id(videoId)
+                .name("original.mp4")
+                .url("s3://bucket/test-video.mp4")
+                .customerId(1L)
+                .customerEmail(customerEmail)
+                .build();
+        List<Video> videos = List.of(fromMessage);
+        when(pendingStatusStore.getAndRemovePendingStatuses(List.of(videoId.toString()))).thenReturn(Map.of());
+
+        // Act
+        videoService.upsertVideos(videos);
+
+        // Assert
+        verify(repository).upsertAll(videos);
+        videos.forEach(v -> verify(videoIdFilter).add(v.getId()));
+        verify(cacheManager).getCache(VideoService.VIDEO_CACHE);
+        assertNotNull(fromMessage.getCreatedAt());
+        assertEquals(fromMessage.getCreatedAt(), fromMessage.getUpdatedAt());
+    }
+
+    @Test
+    void upsertVideos_ShouldMergeParkedStatusesFromOneBatchLookup() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        Video first = Video.builder().id(videoId).customerEmail(customerEmail).build();
+        Video second = Video.builder().id(otherId).customerEmail(customerEmail).build();
+        VideoStatusMessage parked = VideoStatusMessage.builder().videoId(otherId).videoStatus("PROCESSED").build();
+        when(pendingStatusStore.getAndRemovePendingStatuses(List.of(videoId.toString(), otherId.toString())))
+                .thenReturn(Map.of(otherId.toString(), parked));
+
+        // Act
+        videoService.upsertVideos(List.of(first, second));
+
+        // Assert
+        assertNull(first.getStatus());
+        assertEquals("PROCESSED", second.getStatus());
+        verify(pendingStatusStore, never()).getAndRemovePendingStatus(anyString());
+        verify(repository).upsertAll(List.of(first, second));
+    }
+
+    @Test
+    void upsertVideos_WithEmptyList_ShouldNotTouchRepository() {
+        // Act
+        videoService.upsertVideos(List.of());
+
+        // Assert
+        verify(repository, never()).upsertAll(any());
+    }
+
+    @Test
+    void upsertVideos_ShouldEvictEveryUpsertedVideoFromCache() {
+        // Arrange
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache(VideoService.VIDEO_CACHE)).thenReturn(cache);
+        when(pendingStatusStore.getAndRemovePendingStatuses(List.of(videoId.toString()))).thenReturn(Map.of());
+
+        // Act
+        videoService.upsertVideos(List.of(video));
+
+        // Assert
+        verify(cache).evict(videoId);
+    }
+
+    @Test
+    void upsertVideos_WithOffsets_ShouldStoreOffsetsAfterRows() {
+        // Arrange
+        Video fromMessage = Video.builder().id(videoId).customerEmail(customerEmail).build();
+        List<ConsumedOffset> offsets = List.of(new ConsumedOffset("video-data", 0, 42L));
+        when(pendingStatusStore.getAndRemovePendingStatuses(List.of(videoId.toString()))).thenReturn(Map.of());
+
+        // Act
+        videoService.upsertVideos(List.of(fromMessage), offsets);
+
+        // Assert
+        var inOrder = inOrder(repository, offsetStore);
+        inOrder.verify(repository).upsertAll(List.of(fromMessage));
+        inOrder.verify(offsetStore).saveOffsets(offsets);
+    }
+
+    @Test
+    void applyOrParkStatuses_ShouldParkMissesAndStoreOffsets() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        VideoStatusMessage applied = VideoStatusMessage.builder().videoId(videoId).videoStatus("PROCESSED").build();
+        VideoStatusMessage missing = VideoStatusMessage.builder().videoId(missingId).videoStatus("DONE").build();
+        List<ConsumedOffset> offsets = List.of(new ConsumedOffset("video-status", 1, 7L));
+        when(repository.updateStatuses(eq(Map.of(videoId, "PROCESSED", missingId, "DONE")), any(LocalDateTime.class)))
+                .thenReturn(Set.of(videoId));
+
+        // Act
+        Set<UUID> parked = videoService.applyOrParkStatuses(Map.of(videoId, applied, missingId, missing), offsets);
+
+        // Assert
+        assertEquals(Set.of(missingId), parked);
+        verify(pendingStatusStore).savePendingStatuses(Map.of(missingId.toString(), missing));
+        verify(offsetStore).saveOffsets(offsets);
+    }
+
+    @Test
+    void applyOrParkStatuses_WhenAllVideosExist_ShouldOnlyStoreOffsets() {
+        // Arrange
+        VideoStatusMessage status = VideoStatusMessage.builder().videoId(videoId).videoStatus("DONE").build();
+        List<ConsumedOffset> offsets = List.of(new ConsumedOffset("video-status", 0, 3L));
+        when(repository.updateStatuses(anyMap(), any(LocalDateTime.class))).thenReturn(Set.of(videoId));
+
+        // Act
+        Set<UUID> parked = videoService.applyOrParkStatuses(Map.of(videoId, status), offsets);
+
+        // Assert
+        assertTrue(parked.isEmpty());
+        verify(pendingStatusStore, never()).savePendingStatuses(anyMap());
+        verify(offsetStore).saveOffsets(offsets);
+    }
+}